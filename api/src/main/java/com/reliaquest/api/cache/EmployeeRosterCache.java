@@ -0,0 +1,249 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.EmployeeSearchProperties;
+import com.reliaquest.api.external.EmployeeGateway;
+import com.reliaquest.api.external.SingleFlight;
+import com.reliaquest.api.models.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the upstream roster in memory so that reads do not spend the mock server's small request budget.
+ * <p>
+ * A snapshot younger than {@code ttl} is served as is. Up to {@code ttl + staleWhileRevalidate} the stale snapshot is
+ * served while a single background refresh runs. Past that a reload happens on the caller's thread, and if it fails
+ * the stale snapshot is still served until {@code ttl + staleIfError}.
+ */
+@Component
+@Slf4j
+public class EmployeeRosterCache {
+
+    private static final int MAX_RECENT_MUTATIONS = 256;
+    private static final int MAX_RELOAD_ATTEMPTS = 3;
+    private static final String ROSTER = "roster";
+
+    private final EmployeeGateway employeeGateway;
+    private final EmployeeCacheProperties properties;
+    private final EmployeeSearchProperties searchProperties;
+    private final Clock clock;
+    //every caller that needs a reload while one runs joins it, so all of them replay from the same start sequence.
+    private final SingleFlight<String, RosterSnapshot> reloads;
+
+    private final ReentrantLock installLock = new ReentrantLock();
+    private final Deque<Mutation> recentMutations = new ArrayDeque<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "roster-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile RosterSnapshot current;
+    private long mutationSequence;
+    //sequence of the newest mutation dropped from recentMutations; a fetch started before it cannot be replayed.
+    private long droppedSequence;
+
+    @Autowired
+    public EmployeeRosterCache(EmployeeGateway employeeGateway, EmployeeCacheProperties properties,
+                               EmployeeSearchProperties searchProperties, MeterRegistry meterRegistry) {
+        this(employeeGateway, properties, searchProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    EmployeeRosterCache(EmployeeGateway employeeGateway, EmployeeCacheProperties properties,
+                        EmployeeSearchProperties searchProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.employeeGateway = employeeGateway;
+        this.properties = properties;
+        this.searchProperties = searchProperties;
+        this.clock = clock;
+        this.reloads = new SingleFlight<>("reloadRoster", meterRegistry);
+    }
+
+    public RosterSnapshot snapshot() {
+        if (!properties.isEnabled()) {
+            return RosterSnapshot.unindexed(fetch(), clock.instant(), searchProperties);
+        }
+        RosterSnapshot snapshot = current;
+        if (snapshot == null) {
+            return reload();
+        }
+        Duration age = snapshot.age(clock.instant());
+        if (age.compareTo(properties.getTtl()) < 0) {
+            return snapshot;
+        }
+        if (age.compareTo(properties.getTtl().plus(properties.getStaleWhileRevalidate())) < 0) {
+            refreshInBackground();
+            return snapshot;
+        }
+        try {
+            return reload();
+        } catch (RuntimeException e) {
+            if (age.compareTo(properties.getTtl().plus(properties.getStaleIfError())) < 0) {
+                log.warn("Roster reload failed, serving snapshot from {} : {}", snapshot.getLoadedAt(), e.getMessage());
+                return snapshot;
+            }
+            throw e;
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Whether {@link #snapshot()} can currently answer without waiting on the upstream server.
+     */
+    public boolean isServableWithoutFetch() {
+        RosterSnapshot snapshot = current;
+        if (!properties.isEnabled() || snapshot == null) {
+            return false;
+        }
+        Duration age = snapshot.age(clock.instant());
+        return age.compareTo(properties.getTtl().plus(properties.getStaleWhileRevalidate())) < 0;
+    }
+
+    public void onEmployeeCreated(Employee employee) {
+        if (employee != null && employee.getId() != null) {
+            record(new Mutation(0, employee, null));
+        }
+    }
+
+    public void onEmployeeDeleted(String id) {
+        record(new Mutation(0, null, id));
+    }
+
+    public void invalidate() {
+        installLock.lock();
+        try {
+            current = null;
+        } finally {
+            installLock.unlock();
+        }
+    }
+
+    /*
+     * The start sequence is read inside the flight. Read outside it, a caller could join a fetch that left before its
+     * own write, skip replaying that write as already covered, and install a roster without it.
+     */
+    private RosterSnapshot reload() {
+        return reloads.execute(ROSTER, this::fetchAndInstall);
+    }
+
+    private RosterSnapshot fetchAndInstall() {
+        RosterSnapshot snapshot = null;
+        for (int attempt = 0; attempt < MAX_RELOAD_ATTEMPTS; attempt++) {
+            long startSequence = currentSequence();
+            snapshot = RosterSnapshot.of(fetch(), clock.instant(), searchProperties);
+            if (install(snapshot, startSequence)) {
+                return snapshot;
+            }
+            log.info("More than {} writes overlapped the roster fetch, fetching it again", MAX_RECENT_MUTATIONS);
+        }
+        log.warn("Roster kept changing across {} fetches, serving the last one without caching it", MAX_RELOAD_ATTEMPTS);
+        return snapshot;
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    log.warn("Background roster refresh failed : {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            throw e;
+        }
+    }
+
+    private List<Employee> fetch() {
+        log.info("Calling external service for roster snapshot");
+        List<Employee> employees = employeeGateway.getAllEmployees().getData();
+        return employees == null ? List.of() : employees;
+    }
+
+    /*
+     * Writes that completed while the snapshot was being fetched may not be reflected upstream yet,
+     * so they are replayed on top of it before it becomes visible. If some of them were already dropped
+     * from the buffer the snapshot cannot be completed, and it is not installed.
+     */
+    private boolean install(RosterSnapshot snapshot, long startSequence) {
+        installLock.lock();
+        try {
+            if (droppedSequence > startSequence) {
+                return false;
+            }
+            for (Mutation mutation : recentMutations) {
+                if (mutation.sequence() > startSequence) {
+                    mutation.applyTo(snapshot);
+                }
+            }
+            if (properties.isEnabled()) {
+                current = snapshot;
+            }
+            return true;
+        } finally {
+            installLock.unlock();
+        }
+    }
+
+    private void record(Mutation mutation) {
+        installLock.lock();
+        try {
+            Mutation sequenced = new Mutation(++mutationSequence, mutation.created(), mutation.deletedId());
+            recentMutations.addLast(sequenced);
+            if (recentMutations.size() > MAX_RECENT_MUTATIONS) {
+                droppedSequence = recentMutations.removeFirst().sequence();
+            }
+            if (current != null) {
+                sequenced.applyTo(current);
+            }
+        } finally {
+            installLock.unlock();
+        }
+    }
+
+    private long currentSequence() {
+        installLock.lock();
+        try {
+            return mutationSequence;
+        } finally {
+            installLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private record Mutation(long sequence, Employee created, String deletedId) {
+        void applyTo(RosterSnapshot snapshot) {
+            if (created != null) {
+                snapshot.put(created);
+            } else {
+                snapshot.remove(deletedId);
+            }
+        }
+    }
+}
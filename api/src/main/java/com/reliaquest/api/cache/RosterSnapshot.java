@@ -0,0 +1,210 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.EmployeeSearchProperties;
+import com.reliaquest.api.models.Employee;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A point-in-time copy of the upstream roster, keyed by employee id in upstream order.
+ * Creates and deletes made through this api are patched in so callers read their own writes.
+ * Derived indexes are built on the first query that needs them and patched alongside the snapshot from then on.
+ * An {@link #unindexed} snapshot, read once and thrown away, answers every query with a scan instead.
+ */
+public class RosterSnapshot {
+
+    private final Map<String, Employee> employeesById;
+    private final EmployeeSearchProperties search;
+    private final boolean indexed;
+    //null until first used. Built and patched under the write lock, read under the read lock.
+    private volatile SalaryIndex salaryIndex;
+    private volatile TrigramNameIndex nameIndex;
+    @Getter
+    private final Instant loadedAt;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private RosterSnapshot(Map<String, Employee> employeesById, Instant loadedAt, EmployeeSearchProperties search,
+                           boolean indexed) {
+        this.employeesById = employeesById;
+        this.loadedAt = loadedAt;
+        this.search = search;
+        this.indexed = indexed;
+    }
+
+    public static RosterSnapshot of(List<Employee> employees, Instant loadedAt, EmployeeSearchProperties search) {
+        return new RosterSnapshot(byId(employees), loadedAt, search, true);
+    }
+
+    /**
+     * A snapshot for a single query, which would not repay building an index.
+     */
+    public static RosterSnapshot unindexed(List<Employee> employees, Instant loadedAt,
+                                           EmployeeSearchProperties search) {
+        return new RosterSnapshot(byId(employees), loadedAt, search, false);
+    }
+
+    private static Map<String, Employee> byId(List<Employee> employees) {
+        Map<String, Employee> employeesById = new LinkedHashMap<>(Math.max(16, employees.size() * 4 / 3 + 1));
+        for (Employee employee : employees) {
+            employeesById.put(employee.getId(), employee);
+        }
+        return employeesById;
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(loadedAt, now);
+    }
+
+    public List<Employee> employees() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(employeesById.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return employeesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Employee> findById(String id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(employeesById.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public OptionalInt highestSalary() {
+        if (!indexed) {
+            return employees().stream()
+                    .map(Employee::getSalary)
+                    .filter(Objects::nonNull)
+                    .mapToInt(Integer::intValue)
+                    .max();
+        }
+        SalaryIndex index = salaryIndex();
+        lock.readLock().lock();
+        try {
+            return index.highestSalary();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Employee> topEarners(int limit) {
+        if (!indexed) {
+            //a stable sort, so equal salaries keep roster order as they do in the index.
+            return employees().stream()
+                    .filter(employee -> employee.getSalary() != null)
+                    .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+        SalaryIndex index = salaryIndex();
+        lock.readLock().lock();
+        try {
+            return index.top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Employee> searchByName(String fragment) {
+        if (!indexed) {
+            return TrigramNameIndex.scan(employees(), fragment,
+                    search.isCaseInsensitive(), search.isUnicodeNormalized());
+        }
+        TrigramNameIndex index = nameIndex();
+        lock.readLock().lock();
+        try {
+            return index.search(fragment);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            employeesById.put(employee.getId(), employee);
+            if (salaryIndex != null) {
+                salaryIndex.add(employee);
+            }
+            if (nameIndex != null) {
+                nameIndex.add(employee);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            employeesById.remove(id);
+            if (salaryIndex != null) {
+                salaryIndex.remove(id);
+            }
+            if (nameIndex != null) {
+                nameIndex.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    SalaryIndex salaryIndex() {
+        SalaryIndex index = salaryIndex;
+        if (index != null) {
+            return index;
+        }
+        lock.writeLock().lock();
+        try {
+            if (salaryIndex == null) {
+                SalaryIndex built = new SalaryIndex();
+                employeesById.values().forEach(built::add);
+                salaryIndex = built;
+            }
+            return salaryIndex;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    TrigramNameIndex nameIndex() {
+        TrigramNameIndex index = nameIndex;
+        if (index != null) {
+            return index;
+        }
+        lock.writeLock().lock();
+        try {
+            if (nameIndex == null) {
+                TrigramNameIndex built = new TrigramNameIndex(search.isCaseInsensitive(), search.isUnicodeNormalized());
+                employeesById.values().forEach(built::add);
+                nameIndex = built;
+            }
+            return nameIndex;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
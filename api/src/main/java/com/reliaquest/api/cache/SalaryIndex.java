@@ -0,0 +1,69 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+
+/**
+ * Ordered multiset of employees by salary. Equal salaries keep insertion order, which matches a stable
+ * descending sort of the upstream roster. Not thread safe; {@link RosterSnapshot} guards access.
+ */
+public class SalaryIndex {
+
+    private final NavigableMap<Integer, Map<String, Employee>> bySalary = new TreeMap<>(Collections.reverseOrder());
+    private final Map<String, Integer> salaryById = new HashMap<>();
+
+    public void add(Employee employee) {
+        if (employee.getSalary() == null) {
+            return;
+        }
+        remove(employee.getId());
+        bySalary.computeIfAbsent(employee.getSalary(), ignored -> new LinkedHashMap<>())
+                .put(employee.getId(), employee);
+        salaryById.put(employee.getId(), employee.getSalary());
+    }
+
+    public void remove(String id) {
+        Integer salary = salaryById.remove(id);
+        if (salary == null) {
+            return;
+        }
+        Map<String, Employee> bucket = bySalary.get(salary);
+        bucket.remove(id);
+        if (bucket.isEmpty()) {
+            bySalary.remove(salary);
+        }
+    }
+
+    public OptionalInt highestSalary() {
+        return bySalary.isEmpty() ? OptionalInt.empty() : OptionalInt.of(bySalary.firstKey());
+    }
+
+    /**
+     * Walks the index from the top, touching only the first {@code limit} entries.
+     */
+    public List<Employee> top(int limit) {
+        List<Employee> top = new ArrayList<>(Math.min(limit, salaryById.size()));
+        for (Map<String, Employee> bucket : bySalary.values()) {
+            for (Employee employee : bucket.values()) {
+                if (top.size() == limit) {
+                    return top;
+                }
+                top.add(employee);
+            }
+        }
+        return top;
+    }
+
+    public int size() {
+        return salaryById.size();
+    }
+}
@@ -0,0 +1,227 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from name trigrams to the employees containing them. A substring query intersects the posting
+ * lists of its trigrams and only verifies the surviving candidates; queries shorter than a trigram fall back to a scan.
+ * <p>
+ * Documents get increasing ids, so posting lists stay sorted on append and results come back in roster order.
+ * Removed documents are tombstoned and dropped from the postings once they make up half the index.
+ * Not thread safe; {@link RosterSnapshot} guards access.
+ */
+public class TrigramNameIndex {
+
+    private static final int GRAM = 3;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+
+    private final boolean caseInsensitive;
+    private final boolean unicodeNormalized;
+
+    private final List<Employee> documents = new ArrayList<>();
+    private final List<String> normalizedNames = new ArrayList<>();
+    private final Map<String, Integer> documentById = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private int removed;
+
+    public TrigramNameIndex(boolean caseInsensitive, boolean unicodeNormalized) {
+        this.caseInsensitive = caseInsensitive;
+        this.unicodeNormalized = unicodeNormalized;
+    }
+
+    public void add(Employee employee) {
+        if (employee.getName() == null) {
+            return;
+        }
+        remove(employee.getId());
+        int document = documents.size();
+        String name = normalize(employee.getName());
+        documents.add(employee);
+        normalizedNames.add(name);
+        documentById.put(employee.getId(), document);
+        for (int i = 0; i + GRAM <= name.length(); i++) {
+            postings.computeIfAbsent(name.substring(i, i + GRAM), ignored -> new PostingList())
+                    .append(document);
+        }
+    }
+
+    public void remove(String id) {
+        Integer document = documentById.remove(id);
+        if (document == null) {
+            return;
+        }
+        documents.set(document, null);
+        normalizedNames.set(document, null);
+        removed++;
+        if (removed >= MIN_COMPACTION_SIZE && removed * 2 >= documents.size()) {
+            compact();
+        }
+    }
+
+    public List<Employee> search(String fragment) {
+        String query = normalize(fragment);
+        if (query.length() < GRAM) {
+            return scan(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            grams.add(query.substring(i, i + GRAM));
+        }
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        int[] candidates = lists.get(0).toArray();
+        int count = candidates.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            count = lists.get(i).retainAll(candidates, count);
+        }
+
+        List<Employee> matches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = normalizedNames.get(candidates[i]);
+            if (name != null && name.contains(query)) {
+                matches.add(documents.get(candidates[i]));
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return documentById.size();
+    }
+
+    //documents removed but still in the postings, until the next compaction.
+    int tombstones() {
+        return removed;
+    }
+
+    /**
+     * The employees whose name contains {@code fragment}, normalized as an index with the same settings would, found
+     * by a scan instead of an index.
+     */
+    public static List<Employee> scan(List<Employee> employees, String fragment, boolean caseInsensitive,
+                                      boolean unicodeNormalized) {
+        String query = normalize(fragment, caseInsensitive, unicodeNormalized);
+        List<Employee> matches = new ArrayList<>();
+        for (Employee employee : employees) {
+            if (employee.getName() != null
+                    && normalize(employee.getName(), caseInsensitive, unicodeNormalized).contains(query)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    private List<Employee> scan(String query) {
+        List<Employee> matches = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            String name = normalizedNames.get(i);
+            if (name != null && name.contains(query)) {
+                matches.add(documents.get(i));
+            }
+        }
+        return matches;
+    }
+
+    private String normalize(String value) {
+        return normalize(value, caseInsensitive, unicodeNormalized);
+    }
+
+    private static String normalize(String value, boolean caseInsensitive, boolean unicodeNormalized) {
+        String normalized = unicodeNormalized ? Normalizer.normalize(value, Normalizer.Form.NFKC) : value;
+        return caseInsensitive ? normalized.toLowerCase(Locale.ROOT) : normalized;
+    }
+
+    private void compact() {
+        List<Employee> live = new ArrayList<>(documentById.size());
+        for (Employee employee : documents) {
+            if (employee != null) {
+                live.add(employee);
+            }
+        }
+        documents.clear();
+        normalizedNames.clear();
+        documentById.clear();
+        postings.clear();
+        removed = 0;
+        live.forEach(this::add);
+    }
+
+    private static final class PostingList {
+        private int[] documents = new int[4];
+        private int size;
+
+        void append(int document) {
+            if (size > 0 && documents[size - 1] == document) {
+                return;
+            }
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(documents, size);
+        }
+
+        /**
+         * Keeps in {@code candidates[0..count)} only the documents also present in this list and returns the new count.
+         */
+        int retainAll(int[] candidates, int count) {
+            int kept = 0;
+            int position = 0;
+            for (int i = 0; i < count && position < size; i++) {
+                int candidate = candidates[i];
+                position = lowerBound(candidate, position);
+                if (position < size && documents[position] == candidate) {
+                    candidates[kept++] = candidate;
+                }
+            }
+            return kept;
+        }
+
+        private int lowerBound(int target, int from) {
+            int step = 1;
+            int low = from;
+            int high = from;
+            while (high < size && documents[high] < target) {
+                low = high + 1;
+                high = from + step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (documents[middle] < target) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@ConditionalOnProperty(name = "employee.async.enabled", havingValue = "true")
+public class AsyncExecutionConfiguration {
+
+    @Bean(destroyMethod = "shutdownNow")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService upstreamExecutor(EmployeeAsyncProperties properties) {
+        return Executors.newFixedThreadPool(properties.getUpstreamThreads(), daemonThreads("employee-upstream-"));
+    }
+
+    /*
+     * One virtual thread per upstream call; the rate limiter, not the pool size, bounds upstream concurrency.
+     */
+    @Bean(name = "upstreamExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualUpstreamExecutor() {
+        return new VirtualThreadTaskExecutor("employee-upstream-");
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService retryScheduler(EmployeeAsyncProperties properties) {
+        return Executors.newScheduledThreadPool(properties.getRetrySchedulerThreads(), daemonThreads("employee-retry-"));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Asynchronous execution mode. When enabled, controllers return futures and retry waits are scheduled on a timer
+ * instead of sleeping on the servlet thread.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.async")
+public class EmployeeAsyncProperties {
+
+    private boolean enabled = false;
+
+    /** Threads that run blocking upstream calls. */
+    private int upstreamThreads = 16;
+
+    /** Threads that fire scheduled retries. */
+    private int retrySchedulerThreads = 2;
+}
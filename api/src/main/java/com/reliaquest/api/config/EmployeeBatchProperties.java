@@ -0,0 +1,26 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for bulk requests forwarded to the upstream batch endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.batch")
+public class EmployeeBatchProperties {
+
+    /** The most items the mock server accepts in one batch call. */
+    public static final int MAX_CHUNK_SIZE = 1000;
+
+    /** Items per upstream batch call, between 1 and {@link #MAX_CHUNK_SIZE}. */
+    private int chunkSize = 500;
+
+    //rejected while binding, so a chunk size the server would refuse fails startup rather than every batch call.
+    public void setChunkSize(int chunkSize) {
+        if(chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE){
+            throw new IllegalArgumentException("employee.batch.chunk-size must be between 1 and " + MAX_CHUNK_SIZE + ", was " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the in-process roster snapshot kept by {@link com.reliaquest.api.cache.EmployeeRosterCache}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.cache")
+public class EmployeeCacheProperties {
+
+    /** When disabled every read goes straight to the upstream server. */
+    private boolean enabled = true;
+
+    /** How long a snapshot is served without contacting the upstream server. */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /** Window after the ttl during which the stale snapshot is served while a background refresh runs. */
+    private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+
+    /** Window after the ttl during which the stale snapshot is served if a synchronous reload fails. */
+    private Duration staleIfError = Duration.ofMinutes(30);
+}
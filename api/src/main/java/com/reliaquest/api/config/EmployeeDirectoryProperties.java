@@ -0,0 +1,20 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the id to name mapping kept by {@link com.reliaquest.api.external.EmployeeDirectory}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.directory")
+public class EmployeeDirectoryProperties {
+
+    /** When disabled every delete resolves the name with a by-id call first. */
+    private boolean enabled = true;
+
+    /** How long a roster observation is trusted to prove that a name is unique upstream. */
+    private Duration maxAge = Duration.ofSeconds(30);
+}
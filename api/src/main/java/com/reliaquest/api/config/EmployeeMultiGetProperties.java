@@ -0,0 +1,18 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for {@code POST /employee/ids} when it cannot be answered from the roster cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.multi-get")
+public class EmployeeMultiGetProperties {
+
+    /** Up to this many distinct ids are fetched one by one; more than that and the roster is streamed once instead. */
+    private int fanOutThreshold = 4;
+
+    /** By-id calls in flight at once during a fan-out. */
+    private int parallelism = 4;
+}
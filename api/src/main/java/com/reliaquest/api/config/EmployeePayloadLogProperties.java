@@ -0,0 +1,18 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * How much of the employee data a request handled is written to the INFO log. By default only sizes and ids are.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.logging.payload")
+public class EmployeePayloadLogProperties {
+
+    /** Fraction of payload log lines, from 0 to 1, that carry the full body instead of its size or id. */
+    private double sampleRate = 0.0;
+
+    /** Request header that, set to {@code true}, logs full bodies for that request. Blank turns the header off. */
+    private String debugHeader = "X-Debug-Payload";
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Starting assumptions for {@link com.reliaquest.api.external.AdaptiveRateLimiter}. The limiter refines the allowance
+ * and lockout estimates from the responses it sees, so these only need to be safe, not exact.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.rate-limit")
+public class EmployeeRateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Requests assumed to be allowed before the upstream locks out, until a 429 tells otherwise. */
+    private int initialLimit = 5;
+
+    /** Shortest lockout the upstream is assumed to impose. */
+    private Duration lockoutFloor = Duration.ofSeconds(30);
+
+    /** Longest lockout the upstream is assumed to impose. Waiting this long after a lockout is always safe. */
+    private Duration lockoutCeiling = Duration.ofSeconds(90);
+
+    /** Lockout estimates closer together than this are considered converged. */
+    private Duration lockoutResolution = Duration.ofSeconds(1);
+
+    /**
+     * How long a caller may wait for a permit before the request fails. Below the lockout floor every call made during a
+     * lockout fails at once, so the default waits out the longest lockout.
+     */
+    private Duration maxWait = Duration.ofSeconds(90);
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Matching rules for name search. Both flags default to off, which keeps plain {@link String#contains} semantics.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.search")
+public class EmployeeSearchProperties {
+
+    /** Match names regardless of case. */
+    private boolean caseInsensitive = false;
+
+    /** Apply Unicode NFKC normalization to names and queries before matching. */
+    private boolean unicodeNormalized = false;
+}
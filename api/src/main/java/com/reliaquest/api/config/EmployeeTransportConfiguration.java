@@ -0,0 +1,56 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.external.AsyncEmployeeClient;
+import com.reliaquest.api.external.EmployeeClient;
+import com.reliaquest.api.external.FeignAsyncEmployeeClient;
+import com.reliaquest.api.external.JdkHttpEmployeeClient;
+import feign.RequestInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+
+/**
+ * Picks the transport to the upstream employee server from {@code employee.api.transport}: {@code feign} (default)
+ * or {@code http2} for the JDK HttpClient with h2c multiplexing. {@code employee.api.format} picks the body format
+ * asked for on decoded reads: {@code smile} (default) or {@code json}.
+ */
+@Configuration
+public class EmployeeTransportConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.api.transport", havingValue = "feign", matchIfMissing = true)
+    public AsyncEmployeeClient feignEmployeeClient(EmployeeClient employeeClient) {
+        return new FeignAsyncEmployeeClient(employeeClient);
+    }
+
+    /*
+     * Only fills in Accept where the mapping leaves it open; streamed and raw-string reads pin JSON. The Smile
+     * converter that Spring registers alongside the JSON one decodes the answer, whichever of the two comes back.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "employee.api.format", havingValue = "smile", matchIfMissing = true)
+    public RequestInterceptor smileFirstInterceptor() {
+        return template -> {
+            if (!template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, EmployeeClient.SMILE_FIRST);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.api.transport", havingValue = "http2")
+    public AsyncEmployeeClient http2EmployeeClient(@Value("${employee.api.url}") String url,
+                                                   @Value("${employee.api.connect-timeout:5s}") Duration connectTimeout,
+                                                   @Value("${employee.api.request-timeout:30s}") Duration requestTimeout,
+                                                   @Value("${employee.api.format:smile}") String format,
+                                                   ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new JdkHttpEmployeeClient(url, connectTimeout, requestTimeout, objectMapper, meterRegistry,
+                "smile".equals(format));
+    }
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.api.config;
+
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Meters that Spring Boot and Resilience4j do not publish on their own. Controller timings come from
+ * {@code http.server.requests} and per-call retry outcomes from {@code resilience4j.retry.calls}; what is missing is a
+ * count of the individual retry attempts, labelled by the exception that caused them.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public RegistryEventConsumer<Retry> retryAttemptMetrics(MeterRegistry meterRegistry) {
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<Retry> entryAddedEvent) {
+                Retry retry = entryAddedEvent.getAddedEntry();
+                retry.getEventPublisher().onRetry(event -> meterRegistry.counter("employee.retry.attempts",
+                                "retry", retry.getName(),
+                                "exception", event.getLastThrowable() == null
+                                        ? "none" : event.getLastThrowable().getClass().getSimpleName())
+                        .increment());
+            }
+
+            @Override
+            public void onEntryRemovedEvent(EntryRemovedEvent<Retry> entryRemoveEvent) {
+            }
+
+            @Override
+            public void onEntryReplacedEvent(EntryReplacedEvent<Retry> entryReplacedEvent) {
+            }
+        };
+    }
+}
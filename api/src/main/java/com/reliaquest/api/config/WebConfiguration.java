@@ -0,0 +1,58 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.stream.NdjsonEmployeeReader;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lets the JSON converter also answer {@code application/x-ndjson}, so that an error raised before an NDJSON stream
+ * starts is still written as a single JSON line instead of failing content negotiation. Also tags the employee reads
+ * with ETags so callers can revalidate.
+ */
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    /*
+     * Tags are derived from the response body: search, top-N and paged answers are computed here and the roster
+     * snapshot is patched locally, so the upstream tag does not identify them. A matching If-None-Match gets a 304
+     * with no body. NDJSON streams opt out, since the filter would have to buffer them.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> employeeETagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/v1/employee", "/api/v1/employee/*");
+        return registration;
+    }
+
+    /*
+     * Smile with the same mapping as JSON, for decoding upstream Smile answers and for callers that ask for it. It
+     * takes the default Smile converter's place after the JSON one, so a wildcard Accept still gets JSON.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter jackson) {
+                List<MediaType> mediaTypes = new ArrayList<>(jackson.getSupportedMediaTypes());
+                mediaTypes.add(MediaType.parseMediaType(NdjsonEmployeeReader.APPLICATION_NDJSON));
+                jackson.setSupportedMediaTypes(mediaTypes);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.external.EmployeeClient;
+import com.reliaquest.api.models.BatchItemResult;
+import com.reliaquest.api.models.CreateEmployeeInput;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeLookup;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Same routes as {@link EmployeeControllerImpl}, served asynchronously. Active when {@code employee.async.enabled}
+ * is set; the servlet thread is released as soon as the future is returned.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "employee.async.enabled", havingValue = "true")
+public class AsyncEmployeeControllerImpl {
+
+    private final AsyncEmployeeService asyncEmployeeService;
+
+    @GetMapping("/employee")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        log.info("calling async api to get all employees");
+        return asyncEmployeeService.getAllEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/employee", params = "limit")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeePage(@RequestParam int limit,
+                                                                            @RequestParam(required = false) String cursor) {
+        log.info("calling async api to get a page of {} employees", limit);
+        return asyncEmployeeService.getEmployeePage(limit, cursor).thenApply(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(EmployeeClient.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getData());
+        });
+    }
+
+    @GetMapping("/employee/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        log.info("calling async api to get all employees whose name contains : {}", searchString);
+        return asyncEmployeeService.getAllEmployeesBySearchName(searchString).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/employee/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        log.info("calling async api to get employee with id : {}", id);
+        return asyncEmployeeService.getEmployeeById(id).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/employee/ids")
+    public CompletableFuture<ResponseEntity<EmployeeLookup>> getEmployeesByIds(@RequestBody List<String> ids) {
+        log.info("calling async api to get {} employees by id", ids.size());
+        return asyncEmployeeService.getEmployeesByIds(ids).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/employee/highest-salary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        log.info("calling async api to get highest salary among all employees ");
+        return asyncEmployeeService.getEmployeeWithHighestSalary().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/employee/top-10-highest-earning")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        log.info("calling async api to get top ten highest salaried employees");
+        return asyncEmployeeService.getTopHighestEarningEmployees(10).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/employee/top-highest-earning")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopHighestEarningEmployeeNames(
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("calling async api to get top {} highest salaried employees", limit);
+        return asyncEmployeeService.getTopHighestEarningEmployees(limit).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/create")
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(@RequestBody CreateEmployeeInput employeeInput) {
+        log.info("calling async api to create employee");
+        return asyncEmployeeService.createEmployee(employeeInput)
+                .thenApply(employee -> new ResponseEntity<>(employee, HttpStatus.CREATED));
+    }
+
+    @PostMapping("/employee/batch")
+    public CompletableFuture<ResponseEntity<List<BatchItemResult>>> createEmployees(
+            @RequestBody List<CreateEmployeeInput> employeeInputs) {
+        log.info("calling async api to create {} employees", employeeInputs.size());
+        return asyncEmployeeService.createEmployees(employeeInputs)
+                .thenApply(results -> new ResponseEntity<>(results, BatchItemResult.statusOf(results)));
+    }
+
+    @DeleteMapping("/deleteById/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("calling async api to delete employee with id : {}", id);
+        return asyncEmployeeService.deleteEmployeeById(id).thenApply(ResponseEntity::ok);
+    }
+}
@@ -1,22 +1,28 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.external.EmployeeClient;
+import com.reliaquest.api.models.BatchItemResult;
+import com.reliaquest.api.models.CreateEmployeeInput;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeLookup;
+import com.reliaquest.api.models.EmployeePage;
 import com.reliaquest.api.service.EmployeeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.swing.text.html.parser.Entity;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
 @Slf4j
-public class EmployeeControllerImpl implements IEmployeeController{
+@ConditionalOnProperty(name = "employee.async.enabled", havingValue = "false", matchIfMissing = true)
+public class EmployeeControllerImpl implements IEmployeeController<Employee, CreateEmployeeInput> {
 
     private final EmployeeService employeeService;
 
@@ -26,6 +32,17 @@ public class EmployeeControllerImpl implements IEmployeeController{
         return new ResponseEntity<>(employeeService.getAllEmployees(),  HttpStatus.OK);
     }
 
+    @GetMapping(value = "/employee", params = "limit")
+    public ResponseEntity<List<Employee>> getEmployeePage(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        log.info("calling api to get a page of {} employees", limit);
+        EmployeePage page = employeeService.getEmployeePage(limit, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if(page.getNextCursor() != null){
+            response.header(EmployeeClient.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getData());
+    }
+
     @GetMapping("/employee/search/{searchString}")
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
         log.info("calling api to get all employees whose name contains : {}", searchString);
@@ -38,6 +55,12 @@ public class EmployeeControllerImpl implements IEmployeeController{
         return new ResponseEntity<>(employeeService.getEmployeeById(id), HttpStatus.OK);
     }
 
+    @PostMapping("/employee/ids")
+    public ResponseEntity<EmployeeLookup> getEmployeesByIds(@RequestBody List<String> ids) {
+        log.info("calling api to get {} employees by id", ids.size());
+        return new ResponseEntity<>(employeeService.getEmployeesByIds(ids), HttpStatus.OK);
+    }
+
     @GetMapping("/employee/highest-salary")
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("calling api to get highest salary among all employees ");
@@ -50,12 +73,24 @@ public class EmployeeControllerImpl implements IEmployeeController{
         return new ResponseEntity<>(employeeService.getTopTenHighestEarningEmployees(), HttpStatus.OK);
     }
 
+    @GetMapping("/employee/top-highest-earning")
+    public ResponseEntity<List<String>> getTopHighestEarningEmployeeNames(@RequestParam(defaultValue = "10") int limit) {
+        log.info("calling api to get top {} highest salaried employees", limit);
+        return new ResponseEntity<>(employeeService.getTopHighestEarningEmployees(limit), HttpStatus.OK);
+    }
+
     @PostMapping("/create")
-    public ResponseEntity<Employee> createEmployee(@RequestBody Object employeeInput) {
+    public ResponseEntity<Employee> createEmployee(@RequestBody CreateEmployeeInput employeeInput) {
         log.info("calling api to create employee");
-            Map<String, Object> employeeMap = (Map<String, Object>) employeeInput;
-            Employee createEmployee = employeeService.createEmployee(employeeMap);
-            return new ResponseEntity<>(createEmployee, HttpStatus.CREATED);
+        Employee createEmployee = employeeService.createEmployee(employeeInput);
+        return new ResponseEntity<>(createEmployee, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/employee/batch")
+    public ResponseEntity<List<BatchItemResult>> createEmployees(@RequestBody List<CreateEmployeeInput> employeeInputs) {
+        log.info("calling api to create {} employees", employeeInputs.size());
+        List<BatchItemResult> results = employeeService.createEmployees(employeeInputs);
+        return new ResponseEntity<>(results, BatchItemResult.statusOf(results));
     }
 
     @DeleteMapping("/deleteById/{id}")
@@ -0,0 +1,91 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.stream.NdjsonEmployeeReader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * {@code GET /employee} with {@code Accept: application/x-ndjson}. Employees are written one per line as they come
+ * from the service, so neither the upstream body nor the response is held in memory as a whole. Failures before the
+ * first line still go through the controller advice; after that the response is already committed.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeStreamController {
+
+    private static final int FLUSH_EVERY = 256;
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/employee", produces = NdjsonEmployeeReader.APPLICATION_NDJSON)
+    public void streamAllEmployees(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("calling api to stream all employees");
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        ObjectWriter writer = objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        LineWriter lines = new LineWriter(response, writer);
+        try {
+            employeeService.streamAllEmployees(lines::write);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            lines.close();
+        }
+        log.info("Streamed {} employees", lines.written);
+    }
+
+    /*
+     * Opens the output lazily so that nothing is committed until the first employee is available.
+     */
+    private static final class LineWriter {
+        private final HttpServletResponse response;
+        private final ObjectWriter writer;
+        private JsonGenerator generator;
+        private int written;
+
+        private LineWriter(HttpServletResponse response, ObjectWriter writer) {
+            this.response = response;
+            this.writer = writer;
+        }
+
+        void write(Employee employee) {
+            try {
+                if (generator == null) {
+                    response.setContentType(NdjsonEmployeeReader.APPLICATION_NDJSON);
+                    generator = writer.getFactory().createGenerator(response.getOutputStream());
+                    generator.setRootValueSeparator(null);
+                }
+                writer.writeValue(generator, employee);
+                generator.writeRaw('\n');
+                if (++written == 1 || written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() throws IOException {
+            if (generator != null) {
+                generator.close();
+            }
+        }
+    }
+}
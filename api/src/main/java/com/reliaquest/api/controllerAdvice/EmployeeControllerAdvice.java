@@ -1,43 +1,91 @@
 package com.reliaquest.api.controllerAdvice;
 
+import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.exception.RateLimitedException;
 import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.models.ValidationError;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestControllerAdvice
 @Slf4j
+@RequiredArgsConstructor
 public class EmployeeControllerAdvice {
+
+    //error bodies never change per request, so each is built once and shared; the maps are read-only.
+    private static final Map<CustomError, Map<String, String>> ERROR_BODIES = errorBodies();
+    private static final Map<String, String> GENERAL_ERROR_BODY =
+            errorBody("GENERAL_ERROR", "An unexpected error occurred");
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<Map<String, String>> handleCustomException(CustomException ex) {
         log.info("handling CustomException because {}", ex.getMessage());
-        Map<String, String> errorResponse = new HashMap<>();
-        errorResponse.put("error", ex.getError().getCode());
-        errorResponse.put("message", ex.getMessage());
-        return ResponseEntity.badRequest().body(errorResponse);
+        countError(ex.getError().getCode(), ex);
+        return ResponseEntity.badRequest().body(ERROR_BODIES.get(ex.getError()));
+    }
+
+    //the caller is told when the limiter will next let a request through instead of getting a client error.
+    @ExceptionHandler(RateLimitedException.class)
+    public ResponseEntity<Map<String, String>> handleRateLimitedException(RateLimitedException ex) {
+        log.info("handling RateLimitedException because {}", ex.getMessage());
+        countError(ex.getError().getCode(), ex);
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ERROR_BODIES.get(ex.getError()));
     }
 
     @ExceptionHandler(ValidationException.class)
-    public ResponseEntity<Map<String, String>> handleValidationException(ValidationException ex) {
+    public ResponseEntity<Map<String, ?>> handleValidationException(ValidationException ex) {
         log.info("handling ValidationException because {}", ex.getMessage());
-        Map<String, String> errorResponse = new HashMap<>();
-        errorResponse.put("error", ex.getError().getCode());
-        errorResponse.put("message", ex.getError().getMessage());
+        ex.getErrors().forEach(error -> countError(error.getCode(), ex));
+        if (ex.getErrors().size() == 1) {
+            return ResponseEntity.badRequest().body(ERROR_BODIES.get(ex.getError()));
+        }
+        //a body that fails several checks gets all of them, so the caller can fix it in one go.
+        Map<String, Object> errorResponse = new LinkedHashMap<>(ERROR_BODIES.get(ex.getError()));
+        errorResponse.put("errors", ValidationError.of(ex.getErrors()));
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGeneralException(Exception ex) {
         log.info("handling Exception because {}", ex.getMessage());
-        Map<String, String> errorResponse = new HashMap<>();
-        errorResponse.put("error", "GENERAL_ERROR");
-        errorResponse.put("message", "An unexpected error occurred");
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        countError("GENERAL_ERROR", ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(GENERAL_ERROR_BODY);
+    }
+
+    //one counter per error code, so validation failures can be told apart from upstream ones.
+    private void countError(String code, Exception ex) {
+        meterRegistry.counter("employee.api.errors", "code", code, "type", ex.getClass().getSimpleName()).increment();
+    }
+
+    private static Map<CustomError, Map<String, String>> errorBodies() {
+        Map<CustomError, Map<String, String>> bodies = new EnumMap<>(CustomError.class);
+        for (CustomError error : CustomError.values()) {
+            bodies.put(error, errorBody(error.getCode(), error.getMessage()));
+        }
+        return Collections.unmodifiableMap(bodies);
+    }
+
+    private static Map<String, String> errorBody(String code, String message) {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("error", code);
+        body.put("message", message);
+        return Collections.unmodifiableMap(body);
     }
 }
@@ -4,7 +4,7 @@ import lombok.Getter;
 
 @Getter
 public enum CustomError {
-    FEIGN_CLIENT_ERROR("E001", "Error while making a Rest API call"),
+    FEIGN_CLIENT_ERROR("E001", "Error while making a Rest API call", true),
     NO_DATA_FOUND("E002", "No Employees found"),
     EMPLOYEE_WITH_GIVEN_NAME_NOT_FOUND("E003", "No Employees present for the given name"),
     INVALID_OR_MISSING_NAME("E004", "Invalid or missing name"),
@@ -15,13 +15,24 @@ public enum CustomError {
     MAXIMUM_AGE_ERROR("E009", "Age cannot be more than 75"),
     ID_CAN_NOT_BE_NULL("E010", "Id cannot be null"),
     INVALID_OR_MISSING_TITLE("E011","Invalid or missing Title"),
-    RETRY_ERROR("E012","Failed to get response");
+    RETRY_ERROR("E012","Failed to get response", true),
+    INVALID_LIMIT("E013", "Limit must be between 1 and 1000"),
+    UPSTREAM_RATE_LIMITED("E014", "Upstream request budget exhausted, try again later", true),
+    INVALID_CURSOR("E015", "Cursor is malformed or has expired, restart the listing"),
+    INVALID_BATCH_SIZE("E016", "Batch must contain between 1 and 10000 items");
 
     private final String code;
     private final String message;
+    //a failure worth a stack trace, as opposed to an expected outcome such as no data or bad input.
+    private final boolean fault;
 
     CustomError(String code, String message) {
+        this(code, message, false);
+    }
+
+    CustomError(String code, String message, boolean fault) {
         this.code = code;
         this.message = message;
+        this.fault = fault;
     }
 }
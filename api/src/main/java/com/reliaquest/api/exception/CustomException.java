@@ -2,12 +2,19 @@ package com.reliaquest.api.exception;
 
 import lombok.Getter;
 
+//errors that are expected outcomes (no data, not found, bad input) skip the stack trace: filling one in costs more
+//than the rest of a miss, and the advice only ever reads the error. Faults such as a failed upstream call keep theirs,
+//along with the upstream cause.
 @Getter
 public class CustomException extends RuntimeException {
     private final CustomError error;
 
     public CustomException(CustomError error){
-        super(error.getMessage());
+        this(error, null);
+    }
+
+    public CustomException(CustomError error, Throwable cause){
+        super(error.getMessage(), cause, error.isFault(), error.isFault());
         this.error = error;
     }
 }
@@ -0,0 +1,20 @@
+package com.reliaquest.api.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+//UPSTREAM_RATE_LIMITED along with how long until the limiter lets the next request through, for Retry-After.
+@Getter
+public class RateLimitedException extends CustomException {
+    private final Duration retryAfter;
+
+    public RateLimitedException(Duration retryAfter){
+        this(retryAfter, null);
+    }
+
+    public RateLimitedException(Duration retryAfter, Throwable cause){
+        super(CustomError.UPSTREAM_RATE_LIMITED, cause);
+        this.retryAfter = retryAfter;
+    }
+}
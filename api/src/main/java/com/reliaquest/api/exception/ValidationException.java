@@ -2,12 +2,27 @@ package com.reliaquest.api.exception;
 
 import lombok.Getter;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+//always stackless, like CustomException's expected-outcome errors: a rejected body is routine, not a fault.
 @Getter
 public class ValidationException extends RuntimeException {
+    //the first failed check, kept for callers that report a single error.
     private final CustomError error;
+    //every failed check, in the order the checks run.
+    private final List<CustomError> errors;
 
     public ValidationException(CustomError error) {
-        super(error.getMessage());
+        super(error.getMessage(), null, false, false);
         this.error = error;
+        this.errors = List.of(error);
+    }
+
+    public ValidationException(Collection<CustomError> errors) {
+        super(errors.stream().map(CustomError::getMessage).collect(Collectors.joining("; ")), null, false, false);
+        this.errors = List.copyOf(errors);
+        this.error = this.errors.get(0);
     }
 }
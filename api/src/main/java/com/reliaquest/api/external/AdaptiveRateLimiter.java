@@ -0,0 +1,270 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.config.EmployeeRateLimitProperties;
+import com.reliaquest.api.exception.RateLimitedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side model of the mock server's request limit, so that callers wait here instead of being answered with 429.
+ * <p>
+ * The server admits a fixed number of requests, then rejects everything until a fixed lockout has passed since the
+ * last admitted request; the first request after that is admitted without being counted. This limiter hands out that
+ * many permits, then holds callers until the estimated lockout has passed.
+ * <p>
+ * Both numbers are learned. Once the permits run out and the allowance is not confirmed yet, one extra probe request
+ * is let through: a success raises the estimate, a 429 confirms the number admitted so far. During a lockout the
+ * single request that is let through is placed halfway between the shortest lockout already ruled out and the
+ * shortest one known to be enough. Rejected probes do not extend the server's lockout, so this bisection converges
+ * without costing extra lockouts.
+ */
+@Component
+@Slf4j
+public class AdaptiveRateLimiter {
+
+    private final EmployeeRateLimitProperties properties;
+    private final LongSupplier nanoTime;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition stateChanged = lock.newCondition();
+
+    private int estimatedLimit;
+    private boolean limitConfirmed;
+    private long lockoutLowerNanos;
+    private long lockoutUpperNanos;
+    private int tokens;
+    private int acceptedSinceReset;
+    private long lastAcceptedNanos;
+    private boolean hasAccepted;
+    private boolean locked;
+    private long nextProbeNanos;
+    private boolean probeInFlight;
+
+    @Autowired
+    public AdaptiveRateLimiter(EmployeeRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(EmployeeRateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.estimatedLimit = Math.max(1, properties.getInitialLimit());
+        this.tokens = estimatedLimit;
+        this.lockoutLowerNanos = properties.getLockoutFloor().toNanos();
+        this.lockoutUpperNanos = Math.max(lockoutLowerNanos, properties.getLockoutCeiling().toNanos());
+        Gauge.builder("employee.client.ratelimit.limit", this, AdaptiveRateLimiter::getEstimatedLimit)
+                .description("Estimated number of upstream requests allowed before a lockout")
+                .register(meterRegistry);
+        Gauge.builder("employee.client.ratelimit.lockout", this, AdaptiveRateLimiter::getEstimatedLockoutSeconds)
+                .description("Estimated upstream lockout duration")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("employee.client.ratelimit.available", this, AdaptiveRateLimiter::getAvailablePermits)
+                .description("Upstream requests that can be sent without waiting")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Blocks until the upstream is expected to accept a request, for at most the configured max wait.
+     *
+     * @throws RateLimitedException when no permit became available in time, with the time until the next probe
+     */
+    public Permit acquire() {
+        long deadline = nanoTime.getAsLong() + properties.getMaxWait().toNanos();
+        lock.lock();
+        try {
+            while (true) {
+                long now = nanoTime.getAsLong();
+                if (!locked) {
+                    if (tokens > 0) {
+                        tokens--;
+                        return new Permit(PermitKind.REGULAR);
+                    }
+                    if (!limitConfirmed && !probeInFlight) {
+                        probeInFlight = true;
+                        return new Permit(PermitKind.LIMIT_PROBE);
+                    }
+                    if (!probeInFlight) {
+                        enterLockout(now);
+                    }
+                }
+                if (locked && !probeInFlight && now >= nextProbeNanos) {
+                    probeInFlight = true;
+                    return new Permit(PermitKind.LOCKOUT_PROBE);
+                }
+                long wakeUp = locked && !probeInFlight ? nextProbeNanos : deadline;
+                if (wakeUp > deadline || now >= deadline) {
+                    throw new RateLimitedException(retryAfter(now));
+                }
+                stateChanged.awaitNanos(wakeUp - now);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RateLimitedException(retryAfter(nanoTime.getAsLong()), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getEstimatedLimit() {
+        lock.lock();
+        try {
+            return estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getEstimatedLockoutSeconds() {
+        lock.lock();
+        try {
+            return lockoutUpperNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getAvailablePermits() {
+        lock.lock();
+        try {
+            return locked ? 0 : tokens;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Until the next lockout probe. With a probe already in flight its outcome decides, so there is nothing to wait for.
+     */
+    private Duration retryAfter(long now) {
+        return locked && !probeInFlight && nextProbeNanos > now ? Duration.ofNanos(nextProbeNanos - now) : Duration.ZERO;
+    }
+
+    private void enterLockout(long now) {
+        locked = true;
+        tokens = 0;
+        nextProbeNanos = nextProbe(now);
+    }
+
+    private long nextProbe(long now) {
+        long base = hasAccepted ? lastAcceptedNanos : now;
+        if (lockoutUpperNanos - lockoutLowerNanos <= properties.getLockoutResolution().toNanos()) {
+            return base + lockoutUpperNanos;
+        }
+        return base + lockoutLowerNanos + (lockoutUpperNanos - lockoutLowerNanos) / 2;
+    }
+
+    private void onAccepted(PermitKind kind) {
+        lock.lock();
+        try {
+            long now = nanoTime.getAsLong();
+            if (kind == PermitKind.LOCKOUT_PROBE && locked) {
+                if (hasAccepted) {
+                    lockoutUpperNanos = Math.max(lockoutLowerNanos, Math.min(lockoutUpperNanos, now - lastAcceptedNanos));
+                }
+                locked = false;
+                tokens = estimatedLimit;
+                acceptedSinceReset = 0;
+            } else {
+                acceptedSinceReset++;
+                if (kind == PermitKind.LIMIT_PROBE && !limitConfirmed) {
+                    estimatedLimit++;
+                }
+            }
+            lastAcceptedNanos = now;
+            hasAccepted = true;
+            if (locked) {
+                nextProbeNanos = nextProbe(now);
+            }
+            release(kind);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onThrottled(PermitKind kind) {
+        lock.lock();
+        try {
+            long now = nanoTime.getAsLong();
+            if (!locked) {
+                if (acceptedSinceReset > 0) {
+                    estimatedLimit = acceptedSinceReset;
+                    limitConfirmed = true;
+                    log.info("Upstream allows an estimated {} requests before locking out", estimatedLimit);
+                }
+                locked = true;
+                tokens = 0;
+            } else if (kind == PermitKind.LOCKOUT_PROBE && hasAccepted) {
+                lockoutLowerNanos = Math.max(lockoutLowerNanos, now - lastAcceptedNanos);
+                lockoutUpperNanos = Math.max(lockoutUpperNanos, lockoutLowerNanos + properties.getLockoutResolution().toNanos());
+            }
+            nextProbeNanos = nextProbe(now);
+            release(kind);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onNoResponse(PermitKind kind) {
+        lock.lock();
+        try {
+            if (kind == PermitKind.REGULAR && !locked) {
+                tokens++;
+            }
+            release(kind);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(PermitKind kind) {
+        if (kind != PermitKind.REGULAR) {
+            probeInFlight = false;
+        }
+        stateChanged.signalAll();
+    }
+
+    private enum PermitKind {
+        REGULAR,
+        LIMIT_PROBE,
+        LOCKOUT_PROBE
+    }
+
+    /**
+     * Right to send one upstream request. Exactly one of the outcome methods must be called once the response is in.
+     */
+    public final class Permit {
+        private final PermitKind kind;
+
+        private Permit(PermitKind kind) {
+            this.kind = kind;
+        }
+
+        /** The upstream answered with anything other than 429, so the request counted against its limit. */
+        public void accepted() {
+            onAccepted(kind);
+        }
+
+        /** The upstream answered 429. */
+        public void throttled() {
+            onThrottled(kind);
+        }
+
+        /** No response arrived, so the upstream did not count the request. */
+        public void failed() {
+            onNoResponse(kind);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.models.CreateEmployeeDTO;
+import com.reliaquest.api.models.DeleteEmployeeDTO;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.models.EmployeeResponseList;
+import com.reliaquest.api.stream.RosterFold;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Transport-neutral view of the mock employee server. Failed calls complete exceptionally with the same
+ * {@link feign.FeignException} subtypes the Feign client throws, so retry and rate limiting treat every transport alike.
+ */
+public interface AsyncEmployeeClient {
+
+    /**
+     * Reads the roster, revalidating with {@code If-None-Match} when {@code eTag} is not null. A {@code 304} answer
+     * completes normally with {@link RosterRevision#notModified()} set.
+     */
+    CompletableFuture<RosterRevision> getAllEmployees(String eTag);
+
+    /**
+     * Reads the roster straight off the response body into {@code fold}, without materializing it.
+     */
+    <F extends RosterFold> CompletableFuture<F> foldAllEmployees(F fold);
+
+    /**
+     * Requests the roster as NDJSON and passes each employee to {@code sink} as its line arrives. Completes with the
+     * number of employees read.
+     */
+    CompletableFuture<Integer> forEachEmployee(Consumer<Employee> sink);
+
+    /**
+     * One page of the roster; pass the previous page's cursor, or null for the first page.
+     */
+    CompletableFuture<EmployeePage> getEmployeePage(int limit, String cursor);
+
+    CompletableFuture<EmployeeResponse> getEmployeeById(String id);
+
+    CompletableFuture<EmployeeResponse> createEmployee(CreateEmployeeDTO createEmployeeDTO);
+
+    /**
+     * Creates all employees in one upstream call; the result lists them in input order.
+     */
+    CompletableFuture<EmployeeResponseList> createEmployees(List<CreateEmployeeDTO> createEmployeeDTOs);
+
+    CompletableFuture<String> deleteEmployeeById(DeleteEmployeeDTO body);
+}
@@ -1,18 +1,42 @@
 package com.reliaquest.api.external;
 
 import com.reliaquest.api.models.CreateEmployeeDTO;
+import com.reliaquest.api.models.CreateEmployeesDTO;
 import com.reliaquest.api.models.DeleteEmployeeDTO;
 import com.reliaquest.api.models.EmployeeResponseList;
 import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.stream.NdjsonEmployeeReader;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 
 @FeignClient(name = "EmployeeAPI", url = "${employee.api.url}")
 public interface EmployeeClient {
 
+    String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    //Accept header for decoded reads when employee.api.format is smile; JSON stays acceptable for other servers.
+    String SMILE_FIRST = "application/x-jackson-smile, application/json;q=0.9";
+
+    //sends If-None-Match when eTag is not null. A 304 answer is not decoded; it surfaces as a FeignException with that status.
     @GetMapping("/employee")
-    EmployeeResponseList getAllEmployees();
+    ResponseEntity<EmployeeResponseList> getAllEmployees(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String eTag);
+
+    //same request as getAllEmployees, with the body left undecoded for streaming readers. The caller closes it.
+    @GetMapping(value = "/employee", produces = MediaType.APPLICATION_JSON_VALUE)
+    Response streamAllEmployees();
+
+    //one employee per line; the caller closes the body.
+    @GetMapping(value = "/employee", produces = NdjsonEmployeeReader.APPLICATION_NDJSON)
+    Response streamAllEmployeesNdjson();
+
+    @GetMapping("/employee")
+    ResponseEntity<EmployeeResponseList> getEmployeePage(@RequestParam("limit") int limit,
+                                                         @RequestParam(value = "cursor", required = false) String cursor);
 
     @GetMapping("/employee/{id}")
     EmployeeResponse getEmployeeById(@PathVariable String id);
@@ -20,6 +44,9 @@ public interface EmployeeClient {
     @PostMapping("/employee")
     EmployeeResponse createEmployee(@RequestBody CreateEmployeeDTO createEmployeeDTO);
 
-    @DeleteMapping("/employee")
+    @PostMapping("/employee/batch")
+    EmployeeResponseList createEmployees(@RequestBody CreateEmployeesDTO createEmployeesDTO);
+
+    @DeleteMapping(value = "/employee", produces = MediaType.APPLICATION_JSON_VALUE)
     String deleteEmployeeById(@RequestBody DeleteEmployeeDTO body);
 }
@@ -0,0 +1,136 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.config.EmployeeDirectoryProperties;
+import com.reliaquest.api.models.Employee;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Id to name mapping built from the roster and by-id responses the gateway already receives, so that a delete, which
+ * the upstream server addresses by name, does not need a by-id round trip first.
+ * <p>
+ * The upstream server removes the first employee whose name matches ignoring case, so a name is only handed out when
+ * the most recent roster, together with the writes seen since, shows exactly one employee with that name, and that
+ * roster is younger than {@code maxAge}. Anything else falls back to resolving the name upstream.
+ */
+@Component
+public class EmployeeDirectory {
+
+    private static final int MAX_RECENT_DELETES = 256;
+
+    private final EmployeeDirectoryProperties properties;
+    private final Clock clock;
+
+    private final Map<String, String> namesById = new HashMap<>();
+    private final Map<String, Integer> nameCounts = new HashMap<>();
+    private final Deque<Delete> recentDeletes = new ArrayDeque<>();
+    private Instant rosterSeenAt;
+    private long deleteSequence;
+
+    @Autowired
+    public EmployeeDirectory(EmployeeDirectoryProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    EmployeeDirectory(EmployeeDirectoryProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Position to pass to {@link #recordRoster} for a roster fetch that starts now.
+     */
+    public synchronized long checkpoint() {
+        return deleteSequence;
+    }
+
+    /**
+     * Replaces everything known with a complete roster. Deletes made after {@code checkpoint} may not be reflected in
+     * it yet, so they are applied again on top.
+     */
+    public synchronized void recordRoster(List<Employee> employees, long checkpoint) {
+        namesById.clear();
+        nameCounts.clear();
+        if (employees != null) {
+            employees.forEach(this::put);
+        }
+        for (Delete delete : recentDeletes) {
+            if (delete.sequence() > checkpoint) {
+                remove(delete.id());
+            }
+        }
+        rosterSeenAt = clock.instant();
+    }
+
+    /**
+     * Records a single employee seen in a by-id or create response.
+     */
+    public synchronized void record(Employee employee) {
+        if (employee != null) {
+            put(employee);
+        }
+    }
+
+    public synchronized void forget(String id) {
+        recentDeletes.addLast(new Delete(++deleteSequence, id));
+        if (recentDeletes.size() > MAX_RECENT_DELETES) {
+            recentDeletes.removeFirst();
+        }
+        remove(id);
+    }
+
+    /**
+     * The name to delete the given employee by, if it is known and no other known employee shares it.
+     */
+    public synchronized Optional<String> uniqueName(String id) {
+        if (!properties.isEnabled() || rosterSeenAt == null) {
+            return Optional.empty();
+        }
+        if (Duration.between(rosterSeenAt, clock.instant()).compareTo(properties.getMaxAge()) >= 0) {
+            return Optional.empty();
+        }
+        String name = namesById.get(id);
+        if (name == null || nameCounts.getOrDefault(fold(name), 0) != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(name);
+    }
+
+    private void put(Employee employee) {
+        if (employee.getId() == null || employee.getName() == null) {
+            return;
+        }
+        remove(employee.getId());
+        namesById.put(employee.getId(), employee.getName());
+        nameCounts.merge(fold(employee.getName()), 1, Integer::sum);
+    }
+
+    private void remove(String id) {
+        String name = namesById.remove(id);
+        if (name != null) {
+            nameCounts.computeIfPresent(fold(name), (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    //folds case code point by code point the way String.equalsIgnoreCase compares, which is how the upstream server
+    //matches a delete by name. Whole-string toLowerCase differs for the final sigma, the Kelvin sign and dotted I.
+    static String fold(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        name.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    private record Delete(long sequence, String id) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.models.CreateEmployeeDTO;
+import com.reliaquest.api.models.DeleteEmployeeDTO;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.models.EmployeeResponseList;
+import com.reliaquest.api.stream.RosterFold;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point to the upstream employee server, whichever {@link AsyncEmployeeClient} transport is configured.
+ * Concurrent identical reads share one upstream call so that a burst of requests costs the mock server one unit of its
+ * request budget instead of one per caller. Every call that does go upstream first takes a permit from the
+ * {@link AdaptiveRateLimiter}. Employees seen in responses are noted in the {@link EmployeeDirectory}.
+ */
+@Component
+public class EmployeeGateway {
+
+    private static final String ALL_EMPLOYEES = "all";
+
+    private final AsyncEmployeeClient employeeClient;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final EmployeeDirectory employeeDirectory;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight<String, EmployeeResponseList> rosterFlights;
+    private final SingleFlight<String, EmployeeResponse> employeeFlights;
+    private final SingleFlight<String, EmployeePage> pageFlights;
+    private final Counter rosterReused;
+    private final Counter rosterReloaded;
+    private volatile RosterRevision lastRoster;
+
+    public EmployeeGateway(AsyncEmployeeClient employeeClient, AdaptiveRateLimiter rateLimiter,
+                           EmployeeDirectory employeeDirectory, MeterRegistry meterRegistry) {
+        this.employeeClient = employeeClient;
+        this.rateLimiter = rateLimiter;
+        this.employeeDirectory = employeeDirectory;
+        this.meterRegistry = meterRegistry;
+        this.rosterFlights = new SingleFlight<>("getAllEmployees", meterRegistry);
+        this.employeeFlights = new SingleFlight<>("getEmployeeById", meterRegistry);
+        this.pageFlights = new SingleFlight<>("getEmployeePage", meterRegistry);
+        this.rosterReused = rosterRevalidations(meterRegistry, "not_modified");
+        this.rosterReloaded = rosterRevalidations(meterRegistry, "modified");
+    }
+
+    private static Counter rosterRevalidations(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.gateway.roster.revalidations")
+                .description("Roster reads sent with If-None-Match, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revalidates the last roster read with its ETag and reuses the decoded list when the server answers 304, so an
+     * unchanged roster is neither re-sent nor re-parsed.
+     */
+    public EmployeeResponseList getAllEmployees() {
+        return rosterFlights.execute(ALL_EMPLOYEES, () -> {
+            long checkpoint = employeeDirectory.checkpoint();
+            RosterRevision previous = lastRoster;
+            RosterRevision revision = limited("getAllEmployees", () -> employeeClient.getAllEmployees(previous == null ? null : previous.eTag()));
+            EmployeeResponseList response;
+            if (revision.notModified() && previous != null) {
+                rosterReused.increment();
+                response = previous.roster();
+            } else {
+                if (previous != null) {
+                    rosterReloaded.increment();
+                }
+                lastRoster = revision.eTag() != null && revision.roster() != null ? revision : null;
+                response = revision.roster();
+            }
+            if (response != null) {
+                employeeDirectory.recordRoster(response.getData(), checkpoint);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Streams the roster into {@code fold}. Not shared between concurrent callers, since every fold is different.
+     */
+    public <F extends RosterFold> F foldAllEmployees(F fold) {
+        return limited("foldAllEmployees", () -> employeeClient.foldAllEmployees(fold));
+    }
+
+    /**
+     * Streams the roster as NDJSON into {@code sink} and returns how many employees were read.
+     */
+    public int forEachEmployee(Consumer<Employee> sink) {
+        return limited("forEachEmployee", () -> employeeClient.forEachEmployee(sink));
+    }
+
+    public EmployeePage getEmployeePage(int limit, String cursor) {
+        String key = limit + ":" + (cursor == null ? "" : cursor);
+        return pageFlights.execute(key, () -> limited("getEmployeePage", () -> employeeClient.getEmployeePage(limit, cursor)));
+    }
+
+    public EmployeeResponse getEmployeeById(String id) {
+        return employeeFlights.execute(id, () -> recorded(limited("getEmployeeById", () -> employeeClient.getEmployeeById(id))));
+    }
+
+    /**
+     * Looks up each id with its own upstream call, keeping at most {@code parallelism} calls in flight. Ids the server
+     * does not know are left out of the result. Whether calls actually overlap depends on the transport.
+     */
+    public Map<String, Employee> getEmployeesById(List<String> ids, int parallelism) {
+        Map<String, Employee> found = new ConcurrentHashMap<>();
+        int window = Math.max(1, parallelism);
+        for (int from = 0; from < ids.size(); from += window) {
+            List<String> batch = ids.subList(from, Math.min(from + window, ids.size()));
+            CompletableFuture<?>[] calls = new CompletableFuture<?>[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                String id = batch.get(i);
+                calls[i] = limitedAsync("getEmployeeById", () -> employeeClient.getEmployeeById(id))
+                        .handle((response, failure) -> {
+                            if (failure == null) {
+                                recorded(response);
+                                if (response != null && response.getData() != null) {
+                                    found.put(id, response.getData());
+                                }
+                                return null;
+                            }
+                            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                                    ? failure.getCause() : failure;
+                            if (cause instanceof FeignException.NotFound || cause instanceof FeignException.BadRequest) {
+                                return null;
+                            }
+                            throw failure instanceof CompletionException completion ? completion : new CompletionException(cause);
+                        });
+            }
+            await(() -> CompletableFuture.allOf(calls));
+        }
+        return found;
+    }
+
+    public EmployeeResponse createEmployee(CreateEmployeeDTO createEmployeeDTO) {
+        return recorded(limited("createEmployee", () -> employeeClient.createEmployee(createEmployeeDTO)));
+    }
+
+    public EmployeeResponseList createEmployees(List<CreateEmployeeDTO> createEmployeeDTOs) {
+        EmployeeResponseList response = limited("createEmployees", () -> employeeClient.createEmployees(createEmployeeDTOs));
+        if (response != null && response.getData() != null) {
+            response.getData().forEach(employeeDirectory::record);
+        }
+        return response;
+    }
+
+    public String deleteEmployeeById(DeleteEmployeeDTO body) {
+        return limited("deleteEmployeeById", () -> employeeClient.deleteEmployeeById(body));
+    }
+
+    private EmployeeResponse recorded(EmployeeResponse response) {
+        if (response != null) {
+            employeeDirectory.record(response.getData());
+        }
+        return response;
+    }
+
+    private <T> T limited(String operation, Supplier<CompletableFuture<T>> call) {
+        return await(() -> limitedAsync(operation, call));
+    }
+
+    /*
+     * Takes a permit if rate limiting is on, then times the call alone, so the timer shows upstream latency and
+     * not time spent waiting for a permit.
+     */
+    private <T> CompletableFuture<T> limitedAsync(String operation, Supplier<CompletableFuture<T>> call) {
+        AdaptiveRateLimiter.Permit permit = rateLimiter.isEnabled() ? rateLimiter.acquire() : null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, failure) -> {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            sample.stop(upstreamTimer(operation, cause));
+            if (permit != null) {
+                release(permit, cause);
+            }
+        });
+    }
+
+    private Timer upstreamTimer(String operation, Throwable failure) {
+        String status;
+        if (failure == null) {
+            status = "ok";
+        } else if (failure instanceof FeignException e && e.status() > 0) {
+            status = String.valueOf(e.status());
+        } else {
+            status = "io_error";
+        }
+        return Timer.builder("employee.upstream.requests")
+                .description("Calls to the upstream employee server, by operation and response status")
+                .tag("operation", operation)
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+
+    private static void release(AdaptiveRateLimiter.Permit permit, Throwable failure) {
+        if (failure == null) {
+            permit.accepted();
+        } else if (failure instanceof FeignException.TooManyRequests) {
+            permit.throttled();
+        } else if (failure instanceof FeignException e && e.status() > 0) {
+            permit.accepted();
+        } else {
+            permit.failed();
+        }
+    }
+
+    private static <T> T await(Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.models.CreateEmployeeDTO;
+import com.reliaquest.api.models.CreateEmployeesDTO;
+import com.reliaquest.api.models.DeleteEmployeeDTO;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.models.EmployeeResponseList;
+import com.reliaquest.api.stream.NdjsonEmployeeReader;
+import com.reliaquest.api.stream.RosterFold;
+import com.reliaquest.api.stream.RosterStreamReader;
+import feign.FeignException;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Default transport. Runs the blocking {@link EmployeeClient} call on the calling thread and hands back an already
+ * completed future.
+ */
+@RequiredArgsConstructor
+public class FeignAsyncEmployeeClient implements AsyncEmployeeClient {
+
+    private final EmployeeClient employeeClient;
+
+    @Override
+    public CompletableFuture<RosterRevision> getAllEmployees(String eTag) {
+        return call(() -> {
+            try {
+                ResponseEntity<EmployeeResponseList> response = employeeClient.getAllEmployees(eTag);
+                return RosterRevision.of(response.getBody(), response.getHeaders().getETag());
+            } catch (FeignException e) {
+                if (eTag != null && e.status() == HttpStatus.NOT_MODIFIED.value()) {
+                    return RosterRevision.notModified(eTag);
+                }
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public <F extends RosterFold> CompletableFuture<F> foldAllEmployees(F fold) {
+        return call(() -> {
+            try (Response response = employeeClient.streamAllEmployees()) {
+                if (response.status() / 100 != 2) {
+                    throw FeignException.errorStatus("EmployeeClient#streamAllEmployees()", response);
+                }
+                return RosterStreamReader.fold(response.body().asInputStream(), fold);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> forEachEmployee(Consumer<Employee> sink) {
+        return call(() -> {
+            try (Response response = employeeClient.streamAllEmployeesNdjson()) {
+                if (response.status() / 100 != 2) {
+                    throw FeignException.errorStatus("EmployeeClient#streamAllEmployeesNdjson()", response);
+                }
+                return NdjsonEmployeeReader.forEach(response.body().asInputStream(), sink);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> getEmployeePage(int limit, String cursor) {
+        return call(() -> {
+            ResponseEntity<EmployeeResponseList> response = employeeClient.getEmployeePage(limit, cursor);
+            EmployeeResponseList body = response.getBody();
+            return new EmployeePage(body == null ? null : body.getData(),
+                    response.getHeaders().getFirst(EmployeeClient.NEXT_CURSOR_HEADER));
+        });
+    }
+
+    @Override
+    public CompletableFuture<EmployeeResponse> getEmployeeById(String id) {
+        return call(() -> employeeClient.getEmployeeById(id));
+    }
+
+    @Override
+    public CompletableFuture<EmployeeResponse> createEmployee(CreateEmployeeDTO createEmployeeDTO) {
+        return call(() -> employeeClient.createEmployee(createEmployeeDTO));
+    }
+
+    @Override
+    public CompletableFuture<EmployeeResponseList> createEmployees(List<CreateEmployeeDTO> createEmployeeDTOs) {
+        return call(() -> employeeClient.createEmployees(new CreateEmployeesDTO(createEmployeeDTOs)));
+    }
+
+    @Override
+    public CompletableFuture<String> deleteEmployeeById(DeleteEmployeeDTO body) {
+        return call(() -> employeeClient.deleteEmployeeById(body));
+    }
+
+    private static <T> CompletableFuture<T> call(Supplier<T> call) {
+        try {
+            return CompletableFuture.completedFuture(call.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.reliaquest.api.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.models.CreateEmployeeDTO;
+import com.reliaquest.api.models.CreateEmployeesDTO;
+import com.reliaquest.api.models.DeleteEmployeeDTO;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.models.EmployeeResponseList;
+import com.reliaquest.api.stream.NdjsonEmployeeReader;
+import com.reliaquest.api.stream.RosterFold;
+import com.reliaquest.api.stream.RosterStreamReader;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * {@link AsyncEmployeeClient} on the JDK {@link HttpClient}. Connections are kept alive and reused by the client, and
+ * against a plain-http upstream the first request negotiates h2c so later requests are multiplexed over one
+ * connection. Error statuses are turned into the matching {@link FeignException} subtype.
+ */
+public class JdkHttpEmployeeClient implements AsyncEmployeeClient {
+
+    private static final String JSON = "application/json";
+    private static final String SMILE = "application/x-jackson-smile";
+    private static final int NOT_MODIFIED = 304;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final String accept;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * With {@code preferSmile} decoded reads ask for Smile first and fall back to JSON; bodies that are parsed as
+     * they stream, and raw string responses, stay JSON.
+     */
+    public JdkHttpEmployeeClient(String baseUrl, Duration connectTimeout, Duration requestTimeout,
+                                 ObjectMapper objectMapper, MeterRegistry meterRegistry, boolean preferSmile) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.accept = preferSmile ? EmployeeClient.SMILE_FIRST : JSON;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("employee.client.http.inflight", inFlight, AtomicInteger::get)
+                .description("Upstream requests currently in flight on the HTTP/2 transport")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<RosterRevision> getAllEmployees(String eTag) {
+        HttpRequest.Builder request = request("/employee").GET();
+        if (eTag != null) {
+            request.header("If-None-Match", eTag);
+        }
+        return exchange("EmployeeClient#getAllEmployees(String)", request.build())
+                .thenApply(response -> response.statusCode() == NOT_MODIFIED
+                        ? RosterRevision.notModified(eTag)
+                        : RosterRevision.of(decode(response, EmployeeResponseList.class),
+                                response.headers().firstValue("ETag").orElse(null)));
+    }
+
+    @Override
+    public <F extends RosterFold> CompletableFuture<F> foldAllEmployees(F fold) {
+        return stream("EmployeeClient#streamAllEmployees()", request("/employee").setHeader("Accept", JSON).GET().build(),
+                body -> RosterStreamReader.fold(body, fold));
+    }
+
+    @Override
+    public CompletableFuture<Integer> forEachEmployee(Consumer<Employee> sink) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/employee"))
+                .timeout(requestTimeout)
+                .header("Accept", NdjsonEmployeeReader.APPLICATION_NDJSON)
+                .GET()
+                .build();
+        return stream("EmployeeClient#streamAllEmployeesNdjson()", request,
+                body -> NdjsonEmployeeReader.forEach(body, sink));
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> getEmployeePage(int limit, String cursor) {
+        String path = "/employee?limit=" + limit
+                + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+        return exchange("EmployeeClient#getEmployeePage(int,String)", request(path).GET().build())
+                .thenApply(response -> new EmployeePage(
+                        decode(response, EmployeeResponseList.class).getData(),
+                        response.headers().firstValue(EmployeeClient.NEXT_CURSOR_HEADER).orElse(null)));
+    }
+
+    @Override
+    public CompletableFuture<EmployeeResponse> getEmployeeById(String id) {
+        String path = "/employee/" + URLEncoder.encode(id, StandardCharsets.UTF_8).replace("+", "%20");
+        return send("EmployeeClient#getEmployeeById(String)", request(path).GET().build(), EmployeeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<EmployeeResponse> createEmployee(CreateEmployeeDTO createEmployeeDTO) {
+        HttpRequest request = request("/employee")
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(createEmployeeDTO)))
+                .build();
+        return send("EmployeeClient#createEmployee(CreateEmployeeDTO)", request, EmployeeResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<EmployeeResponseList> createEmployees(List<CreateEmployeeDTO> createEmployeeDTOs) {
+        HttpRequest request = request("/employee/batch")
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(new CreateEmployeesDTO(createEmployeeDTOs))))
+                .build();
+        return send("EmployeeClient#createEmployees(CreateEmployeesDTO)", request, EmployeeResponseList.class);
+    }
+
+    @Override
+    public CompletableFuture<String> deleteEmployeeById(DeleteEmployeeDTO body) {
+        HttpRequest request = request("/employee")
+                .setHeader("Accept", JSON)
+                .header("Content-Type", JSON)
+                .method("DELETE", HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+        return send("EmployeeClient#deleteEmployeeById(DeleteEmployeeDTO)", request, String.class);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Accept", accept);
+    }
+
+    private <T> CompletableFuture<T> send(String methodKey, HttpRequest request, Class<T> type) {
+        return exchange(methodKey, request).thenApply(response -> decode(response, type));
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> exchange(String methodKey, HttpRequest request) {
+        inFlight.incrementAndGet();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, failure) -> inFlight.decrementAndGet())
+                .thenApply(response -> {
+                    count(response);
+                    //304 only ever answers a conditional request, whose caller handles it.
+                    if (response.statusCode() / 100 != 2 && response.statusCode() != NOT_MODIFIED) {
+                        throw FeignException.errorStatus(methodKey, toFeignResponse(request, response, response.body()));
+                    }
+                    return response;
+                });
+    }
+
+    /*
+     * The body is read as it arrives; the reader runs on the HttpClient executor, not the caller's thread.
+     */
+    private <T> CompletableFuture<T> stream(String methodKey, HttpRequest request, BodyReader<T> reader) {
+        inFlight.incrementAndGet();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .whenComplete((response, failure) -> inFlight.decrementAndGet())
+                .thenApply(response -> {
+                    count(response);
+                    try (InputStream body = response.body()) {
+                        if (response.statusCode() / 100 != 2) {
+                            throw FeignException.errorStatus(methodKey,
+                                    toFeignResponse(request, response, body.readAllBytes()));
+                        }
+                        return reader.read(body);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private void count(HttpResponse<?> response) {
+        Counter.builder("employee.client.http.responses")
+                .tag("protocol", response.version().name())
+                .tag("status", String.valueOf(response.statusCode()))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private <T> T decode(HttpResponse<byte[]> response, Class<T> type) {
+        byte[] body = response.body();
+        if (type == String.class) {
+            return type.cast(new String(body, StandardCharsets.UTF_8));
+        }
+        boolean smile = response.headers().firstValue("Content-Type")
+                .map(contentType -> contentType.startsWith(SMILE))
+                .orElse(false);
+        try {
+            return (smile ? smileMapper : objectMapper).readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Response toFeignResponse(HttpRequest request, HttpResponse<?> response, byte[] body) {
+        Map<String, Collection<String>> headers = Map.copyOf(response.headers().map());
+        Request feignRequest = Request.create(
+                Request.HttpMethod.valueOf(request.method()),
+                request.uri().toString(),
+                Map.of(),
+                null,
+                StandardCharsets.UTF_8,
+                null);
+        return Response.builder()
+                .status(response.statusCode())
+                .reason(String.valueOf(response.statusCode()))
+                .headers(headers)
+                .request(feignRequest)
+                .body(body)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+}
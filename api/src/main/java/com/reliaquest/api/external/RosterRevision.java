@@ -0,0 +1,18 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.models.EmployeeResponseList;
+
+/**
+ * Outcome of a conditional roster read. When {@code notModified} is set the server confirmed that the roster behind
+ * the ETag that was sent is still current; no roster is carried and the caller keeps using its own copy.
+ */
+public record RosterRevision(EmployeeResponseList roster, String eTag, boolean notModified) {
+
+    public static RosterRevision of(EmployeeResponseList roster, String eTag) {
+        return new RosterRevision(roster, eTag, false);
+    }
+
+    public static RosterRevision notModified(String eTag) {
+        return new RosterRevision(null, eTag, true);
+    }
+}
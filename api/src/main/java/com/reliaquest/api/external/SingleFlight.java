@@ -0,0 +1,68 @@
+package com.reliaquest.api.external;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one. The first caller runs the call; callers arriving while it is
+ * in flight wait for and share its result or failure. Nothing is cached once the flight lands.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final DistributionSummary callersPerFlight;
+
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.callersPerFlight = DistributionSummary.builder("employee.client.flight.callers")
+                .description("Callers served by each upstream call")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        Flight<V> leader = new Flight<>();
+        Flight<V> inFlight = flights.putIfAbsent(key, leader);
+        if (inFlight != null) {
+            inFlight.callers.incrementAndGet();
+            return await(inFlight);
+        }
+        try {
+            V result = call.get();
+            leader.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            leader.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, leader);
+            callersPerFlight.record(leader.callers.get());
+        }
+    }
+
+    private V await(Flight<V> flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+    }
+}
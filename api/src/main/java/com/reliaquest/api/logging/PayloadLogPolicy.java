@@ -0,0 +1,66 @@
+package com.reliaquest.api.logging;
+
+import com.reliaquest.api.config.EmployeePayloadLogProperties;
+import com.reliaquest.api.models.Employee;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides what a log line shows of the employees a request handled. By default a collection is logged as its size and
+ * an employee as its id, so a log call never formats a whole roster. The full body is logged for a sampled fraction of
+ * calls and for every call of a request that sends the debug header. The header is read from the current servlet
+ * request, so calls made off the request thread (the async mode's upstream callbacks) are only ever sampled.
+ */
+@Component
+public class PayloadLogPolicy {
+
+    private final double sampleRate;
+    private final String debugHeader;
+
+    public PayloadLogPolicy(EmployeePayloadLogProperties properties) {
+        this.sampleRate = properties.getSampleRate();
+        this.debugHeader = properties.getDebugHeader() == null || properties.getDebugHeader().isBlank()
+                ? null : properties.getDebugHeader();
+    }
+
+    //the collection itself when the full body is wanted, otherwise a placeholder that prints its size.
+    public Object of(Collection<?> payload) {
+        if(payload == null || fullBody()){
+            return payload;
+        }
+        return new Size(payload.size());
+    }
+
+    //the employee itself when the full body is wanted, otherwise its id.
+    public Object of(Employee employee) {
+        if(employee == null || fullBody()){
+            return employee;
+        }
+        return employee.getId();
+    }
+
+    boolean fullBody() {
+        if(sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate){
+            return true;
+        }
+        return debugHeader != null && debugRequested();
+    }
+
+    private boolean debugRequested() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                && "true".equalsIgnoreCase(servletAttributes.getRequest().getHeader(debugHeader));
+    }
+
+    private record Size(int size) {
+        @Override
+        public String toString() {
+            return size + " items";
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reliaquest.api.exception.CustomError;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a bulk request, reported at the item's position in the input.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+
+    public enum Status { CREATED, INVALID, FAILED }
+
+    private int index;
+    private Status status;
+    private Employee employee;
+    private String error;
+    private String message;
+    //every failed check when an item fails more than one; error and message carry the first of them.
+    private List<ValidationError> errors;
+
+    public static BatchItemResult created(int index, Employee employee) {
+        return new BatchItemResult(index, Status.CREATED, employee, null, null, null);
+    }
+
+    public static BatchItemResult rejected(int index, Status status, CustomError error) {
+        return new BatchItemResult(index, status, null, error.getCode(), error.getMessage(), null);
+    }
+
+    public static BatchItemResult invalid(int index, List<CustomError> errors) {
+        CustomError first = errors.get(0);
+        return new BatchItemResult(index, Status.INVALID, null, first.getCode(), first.getMessage(),
+                errors.size() > 1 ? ValidationError.of(errors) : null);
+    }
+
+    /** 201 when every item was created, otherwise 207 so callers know to inspect each result. */
+    public static HttpStatus statusOf(List<BatchItemResult> results) {
+        boolean allCreated = results.stream().allMatch(result -> result.getStatus() == Status.CREATED);
+        return allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    }
+}
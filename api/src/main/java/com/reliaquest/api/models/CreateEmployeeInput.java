@@ -0,0 +1,30 @@
+package com.reliaquest.api.models;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.validator.CreateEmployeeInputReader;
+import com.reliaquest.api.validator.CreateEmployeeInputValidation;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * A create-employee request body as bound by {@link CreateEmployeeInputReader}. A field that was missing or not of
+ * the expected JSON type is null; {@link #validated()} reports every such field at once.
+ */
+@Value
+@AllArgsConstructor
+@JsonDeserialize(using = CreateEmployeeInputReader.class)
+public class CreateEmployeeInput {
+
+    //what a JSON null, or anything other than an object, binds to: every field missing.
+    public static final CreateEmployeeInput EMPTY = new CreateEmployeeInput(null, null, null, null);
+
+    String name;
+    Integer salary;
+    Integer age;
+    String title;
+
+    public CreateEmployeeDTO validated() throws ValidationException {
+        return CreateEmployeeInputValidation.validated(name, salary, age, title);
+    }
+}
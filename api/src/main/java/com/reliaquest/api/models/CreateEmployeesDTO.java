@@ -0,0 +1,14 @@
+package com.reliaquest.api.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateEmployeesDTO {
+    private List<CreateEmployeeDTO> employees;
+}
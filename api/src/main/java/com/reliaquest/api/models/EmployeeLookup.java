@@ -0,0 +1,18 @@
+package com.reliaquest.api.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeLookup {
+    //employees found, in the order their ids were first requested.
+    private List<Employee> data;
+
+    //requested ids with no employee upstream.
+    private List<String> missingIds;
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeePage {
+    private List<Employee> data;
+
+    //opaque token for the following page, null on the last page.
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.models;
+
+import com.reliaquest.api.exception.CustomError;
+
+import java.util.List;
+
+/**
+ * One failed check of a request body, as reported alongside the first one when a body fails several.
+ */
+public record ValidationError(String error, String message) {
+
+    public static List<ValidationError> of(List<CustomError> errors) {
+        return errors.stream()
+                .map(error -> new ValidationError(error.getCode(), error.getMessage()))
+                .toList();
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.models.BatchItemResult;
+import com.reliaquest.api.models.CreateEmployeeInput;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeLookup;
+import com.reliaquest.api.models.EmployeePage;
+import feign.FeignException;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking facade over {@link EmployeeService}. Blocking upstream work runs on a small dedicated pool, and the
+ * {@code employeeServiceRetry} waits are scheduled on a timer, so pending retries hold no thread at all.
+ * Reads that the roster snapshot can answer right away complete on the calling thread.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "employee.async.enabled", havingValue = "true")
+public class AsyncEmployeeService {
+
+    /* Roster reads fall back the same way as EmployeeService#getAllEmployees, so they share its label. */
+    private static final String ALL_EMPLOYEES = "fallbackGetAllEmployees";
+
+    private final EmployeeService employeeService;
+    private final EmployeeRosterCache employeeRosterCache;
+    private final Executor upstreamExecutor;
+    private final ScheduledExecutorService retryScheduler;
+    private final Retry retry;
+    private final MeterRegistry meterRegistry;
+
+    public AsyncEmployeeService(EmployeeService employeeService, EmployeeRosterCache employeeRosterCache,
+                                @Qualifier("upstreamExecutor") Executor upstreamExecutor,
+                                @Qualifier("retryScheduler") ScheduledExecutorService retryScheduler,
+                                RetryRegistry retryRegistry, MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.employeeRosterCache = employeeRosterCache;
+        this.upstreamExecutor = upstreamExecutor;
+        this.retryScheduler = retryScheduler;
+        this.retry = retryRegistry.retry("employeeServiceRetry");
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return fromRoster(ALL_EMPLOYEES, employeeService::fetchAllEmployees);
+    }
+
+    public CompletableFuture<EmployeePage> getEmployeePage(int limit, String cursor) {
+        return retried("fallbackGetEmployeePage", () -> employeeService.fetchEmployeePage(limit, cursor));
+    }
+
+    public CompletableFuture<List<Employee>> getAllEmployeesBySearchName(String name) {
+        return fromRoster(ALL_EMPLOYEES, () -> employeeService.getAllEmployeesBySearchName(name));
+    }
+
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return retried("fallbackGetEmployeeById", () -> employeeService.fetchEmployeeById(id));
+    }
+
+    public CompletableFuture<EmployeeLookup> getEmployeesByIds(List<String> ids) {
+        return fromRoster("fallbackGetEmployeesByIds", () -> employeeService.fetchEmployeesByIds(ids));
+    }
+
+    public CompletableFuture<Integer> getEmployeeWithHighestSalary() {
+        return fromRoster(ALL_EMPLOYEES, employeeService::getEmployeeWithHighestSalary);
+    }
+
+    public CompletableFuture<List<String>> getTopHighestEarningEmployees(int limit) {
+        return fromRoster(ALL_EMPLOYEES, () -> employeeService.getTopHighestEarningEmployees(limit));
+    }
+
+    public CompletableFuture<Employee> createEmployee(CreateEmployeeInput employeeInput) {
+        return CompletableFuture.supplyAsync(() -> employeeService.createEmployee(employeeInput), upstreamExecutor);
+    }
+
+    public CompletableFuture<List<BatchItemResult>> createEmployees(List<CreateEmployeeInput> employeeInputs) {
+        return CompletableFuture.supplyAsync(() -> employeeService.createEmployees(employeeInputs), upstreamExecutor);
+    }
+
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        return CompletableFuture.supplyAsync(() -> employeeService.deleteEmployeeById(id), upstreamExecutor);
+    }
+
+    private <T> CompletableFuture<T> fromRoster(String fallback, Supplier<T> call) {
+        if (employeeRosterCache.isServableWithoutFetch()) {
+            try {
+                return CompletableFuture.completedFuture(call.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return retried(fallback, call);
+    }
+
+    private <T> CompletableFuture<T> retried(String fallback, Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        retry.executeCompletionStage(retryScheduler, () -> CompletableFuture.supplyAsync(call, upstreamExecutor))
+                .whenComplete((value, failure) -> {
+                    if (failure == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(afterRetries(fallback, failure));
+                    }
+                });
+        return result;
+    }
+
+    private Throwable afterRetries(String fallback, Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof FeignException) {
+            log.error("Feign client exception : {}", cause.getMessage());
+            meterRegistry.counter("employee.retry.fallbacks", "method", fallback).increment();
+            return new CustomException(CustomError.RETRY_ERROR, cause);
+        }
+        return cause;
+    }
+}
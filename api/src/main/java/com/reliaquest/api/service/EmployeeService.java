@@ -1,18 +1,33 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.config.EmployeeBatchProperties;
+import com.reliaquest.api.config.EmployeeMultiGetProperties;
 import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.CustomException;
 import com.reliaquest.api.exception.ValidationException;
-import com.reliaquest.api.external.EmployeeClient;
+import com.reliaquest.api.external.EmployeeDirectory;
+import com.reliaquest.api.external.EmployeeGateway;
+import com.reliaquest.api.logging.PayloadLogPolicy;
 import com.reliaquest.api.models.*;
-import com.reliaquest.api.validator.CreateEmployeeInputValidation;
+import com.reliaquest.api.stream.HighestSalaryFold;
+import com.reliaquest.api.stream.RosterFold;
+import com.reliaquest.api.stream.TopEarnersFold;
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import io.github.resilience4j.retry.annotation.Retry;
 
@@ -21,107 +36,338 @@ import io.github.resilience4j.retry.annotation.Retry;
 @Slf4j
 public class EmployeeService {
 
-    private final EmployeeClient employeeClient;
+    public static final int MAX_TOP_EARNERS_LIMIT = 1000;
+
+    //the largest page the upstream server hands out (MockEmployeeController.MAX_PAGE_SIZE).
+    public static final int MAX_PAGE_LIMIT = 1000;
+
+    public static final int MAX_BATCH_ITEMS = 10000;
+
+    private final EmployeeGateway employeeGateway;
+
+    private final EmployeeRosterCache employeeRosterCache;
+
+    private final EmployeeDirectory employeeDirectory;
+
+    private final EmployeeBatchProperties employeeBatchProperties;
+
+    private final EmployeeMultiGetProperties employeeMultiGetProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    //payloads are logged as sizes and ids unless this samples or the request asks for full bodies.
+    private final PayloadLogPolicy payloadLogPolicy;
 
     @Retry(name = "employeeServiceRetry", fallbackMethod = "fallbackGetAllEmployees")
     public List<Employee> getAllEmployees(){
+        return fetchAllEmployees();
+    }
+
+    //same as getAllEmployees without the blocking retry, for callers that schedule their own retries.
+    public List<Employee> fetchAllEmployees(){
         List<Employee> employeeResponseList;
-        log.info("Calling external service");
-        employeeResponseList = employeeClient.getAllEmployees().getData();
+        log.info("Reading roster snapshot");
+        employeeResponseList = employeeRosterCache.snapshot().employees();
         if(employeeResponseList.isEmpty()){
             log.debug("No Data found");
             throw new CustomException(CustomError.NO_DATA_FOUND);
         }
-        log.info("Successfully fetched List of all employees: {}", employeeResponseList);
+        log.info("Successfully fetched List of all employees: {}", payloadLogPolicy.of(employeeResponseList));
         return employeeResponseList;
     }
 
+    //hands the roster to the sink one employee at a time. Without the roster cache it is read from an NDJSON upstream
+    //response as it arrives, so it is never held in full. There is no retry: the sink may already have written output.
+    public void streamAllEmployees(Consumer<Employee> sink){
+        if(employeeRosterCache.isEnabled()){
+            fetchAllEmployees().forEach(sink);
+            return;
+        }
+        log.info("Calling external service for NDJSON roster");
+        int streamed = employeeGateway.forEachEmployee(sink);
+        if(streamed == 0){
+            log.debug("No Data found");
+            throw new CustomException(CustomError.NO_DATA_FOUND);
+        }
+    }
+
+    @Retry(name = "employeeServiceRetry", fallbackMethod = "fallbackGetEmployeePage")
+    public EmployeePage getEmployeePage(int limit, String cursor){
+        return fetchEmployeePage(limit, cursor);
+    }
+
+    //same as getEmployeePage without the blocking retry, for callers that schedule their own retries.
+    //pages always come from upstream: the cursor pins the server's store version, which the roster cache does not track.
+    public EmployeePage fetchEmployeePage(int limit, String cursor){
+        if(limit < 1 || limit > MAX_PAGE_LIMIT){
+            throw new ValidationException(CustomError.INVALID_LIMIT);
+        }
+        log.info("Calling external service for a page of {} employees", limit);
+        EmployeePage page;
+        try{
+            page = employeeGateway.getEmployeePage(limit, cursor);
+        }catch (FeignException.BadRequest | FeignException.Gone e){
+            log.debug("Upstream rejected cursor {} : {}", cursor, e.getMessage());
+            throw new CustomException(CustomError.INVALID_CURSOR, e);
+        }
+        if(page.getData() == null){
+            page.setData(List.of());
+        }
+        log.info("Fetched page of {} employees, next cursor : {}", page.getData().size(), page.getNextCursor());
+        return page;
+    }
+
     public List<Employee> getAllEmployeesBySearchName(String name){
-        List<Employee> employeesFoundByName = getAllEmployees().stream()
-                .filter(employee -> employee.getName().contains(name))
-                .toList();
+        List<Employee> employeesFoundByName = rosterSnapshot().searchByName(name);
         if(employeesFoundByName.isEmpty()){
             log.debug("Employee with given name not found");
             throw new CustomException(CustomError.EMPLOYEE_WITH_GIVEN_NAME_NOT_FOUND);
         }
-        log.info("Successfully fetched Employees whose name contains the {} are : {}",name, employeesFoundByName);
+        log.info("Successfully fetched Employees whose name contains the {} are : {}",name, payloadLogPolicy.of(employeesFoundByName));
         return employeesFoundByName;
     }
 
     @Retry(name = "employeeServiceRetry", fallbackMethod = "fallbackGetEmployeeById")
     public Employee getEmployeeById(String id){
+        return fetchEmployeeById(id);
+    }
+
+    //same as getEmployeeById without the blocking retry, for callers that schedule their own retries.
+    public Employee fetchEmployeeById(String id){
         if(id == null || id.isEmpty())
             throw new ValidationException(CustomError.ID_CAN_NOT_BE_NULL);
         Employee employee;
         log.info("Calling external service");
-        employee = employeeClient.getEmployeeById(id).getData();
-        log.info(String.valueOf(employee));
+        employee = employeeGateway.getEmployeeById(id).getData();
         if(employee == null){
             log.debug("No Data found for given Id");
             throw new CustomException(CustomError.NO_DATA_FOUND);
         }
-        log.info("Successfully found Employee with id : {}", employee);
+        log.info("Successfully found Employee : {}", payloadLogPolicy.of(employee));
         return employee;
     }
 
+    @Retry(name = "employeeServiceRetry", fallbackMethod = "fallbackGetEmployeesByIds")
+    public EmployeeLookup getEmployeesByIds(List<String> ids){
+        return fetchEmployeesByIds(ids);
+    }
+
+    //same as getEmployeesByIds without the blocking retry, for callers that schedule their own retries.
+    //served from the roster snapshot when the cache is on. Otherwise a handful of ids are fetched one by one, and
+    //anything larger streams the roster once and keeps only the requested employees.
+    public EmployeeLookup fetchEmployeesByIds(List<String> ids){
+        if(ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_ITEMS){
+            throw new ValidationException(CustomError.INVALID_BATCH_SIZE);
+        }
+        Set<String> distinctIds = new LinkedHashSet<>();
+        for(String id : ids){
+            if(id == null || id.isEmpty()){
+                throw new ValidationException(CustomError.ID_CAN_NOT_BE_NULL);
+            }
+            distinctIds.add(id);
+        }
+        Map<String, Employee> found;
+        if(employeeRosterCache.isEnabled()){
+            RosterSnapshot snapshot = employeeRosterCache.snapshot();
+            found = new HashMap<>();
+            for(String id : distinctIds){
+                Employee employee = snapshot.findById(id).orElse(null);
+                if(employee != null){
+                    found.put(id, employee);
+                }
+            }
+        }else if(distinctIds.size() <= employeeMultiGetProperties.getFanOutThreshold()){
+            log.info("Calling external service for {} employees by id", distinctIds.size());
+            found = employeeGateway.getEmployeesById(new ArrayList<>(distinctIds), employeeMultiGetProperties.getParallelism());
+        }else{
+            log.info("Calling external service for NDJSON roster to find {} employees", distinctIds.size());
+            Map<String, Employee> matches = new HashMap<>();
+            employeeGateway.forEachEmployee(employee -> {
+                if(distinctIds.contains(employee.getId())){
+                    matches.put(employee.getId(), employee);
+                }
+            });
+            found = matches;
+        }
+        List<Employee> employees = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for(String id : distinctIds){
+            Employee employee = found.get(id);
+            if(employee == null){
+                missingIds.add(id);
+            }else{
+                employees.add(employee);
+            }
+        }
+        log.info("Found {} of {} requested employees, missing ids : {}", employees.size(), distinctIds.size(), payloadLogPolicy.of(missingIds));
+        return new EmployeeLookup(employees, missingIds);
+    }
+
     public Integer getEmployeeWithHighestSalary(){
-        Integer highestSalary = getAllEmployees().stream()
-                .mapToInt(Employee::getSalary)
-                .max()
-                .orElse(0);
+        Integer highestSalary;
+        if(employeeRosterCache.isEnabled()){
+            highestSalary = rosterSnapshot().highestSalary().orElse(0);
+        }else{
+            //without a snapshot to index, fold the upstream response as it is read instead of decoding the whole roster.
+            HighestSalaryFold fold = streamedRoster(new HighestSalaryFold());
+            highestSalary = fold.highestSalary().orElse(0);
+        }
         log.info("Highest earning employee salary is :{}", highestSalary);
         return highestSalary;
     }
 
     public List<String> getTopTenHighestEarningEmployees(){
-        List<String> highestEarningEmmployeeList =  getAllEmployees().stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary()))
-                .limit(10)
-                .map(Employee::getName)
-                .collect(Collectors.toList());
-        log.info("Top 10 highest earning employees are : {}", highestEarningEmmployeeList);
-        return highestEarningEmmployeeList;
+        return getTopHighestEarningEmployees(10);
     }
 
-    public Employee createEmployee(Map<String, Object> employeeMap){
+    public List<String> getTopHighestEarningEmployees(int limit){
+        if(limit < 1 || limit > MAX_TOP_EARNERS_LIMIT){
+            throw new ValidationException(CustomError.INVALID_LIMIT);
+        }
+        List<String> highestEarningEmployeeList;
+        if(employeeRosterCache.isEnabled()){
+            highestEarningEmployeeList = rosterSnapshot().topEarners(limit).stream()
+                    .map(Employee::getName)
+                    .collect(Collectors.toList());
+        }else{
+            highestEarningEmployeeList = streamedRoster(new TopEarnersFold(limit)).names();
+        }
+        log.info("Top {} highest earning employees are : {}", limit, payloadLogPolicy.of(highestEarningEmployeeList));
+        return highestEarningEmployeeList;
+    }
+
+    public Employee createEmployee(CreateEmployeeInput employeeInput){
         log.info("Calling external service");
         try{
-            CreateEmployeeDTO createEmployeeDTO = CreateEmployeeInputValidation.ValidateInput(employeeMap);
-            EmployeeResponse createdEmployee = employeeClient.createEmployee(createEmployeeDTO);
-            log.info("Successfully created Employee with id : {}", createdEmployee);
+            CreateEmployeeDTO createEmployeeDTO = employeeInput.validated();
+            EmployeeResponse createdEmployee = employeeGateway.createEmployee(createEmployeeDTO);
+            log.info("Successfully created Employee : {}", payloadLogPolicy.of(createdEmployee.getData()));
+            employeeRosterCache.onEmployeeCreated(createdEmployee.getData());
             return createdEmployee.getData();
         }catch (FeignException e) {
             log.error("Error creating employee: {}", e.getMessage());
-            throw new CustomException(CustomError.FEIGN_CLIENT_ERROR);
+            throw new CustomException(CustomError.FEIGN_CLIENT_ERROR, e);
         }
     }
 
+    //validates every item on its own so one bad entry does not reject the rest, then sends the valid ones upstream in
+    //chunks. A failed chunk only marks its own items FAILED; results keep the position of each item in the input.
+    public List<BatchItemResult> createEmployees(List<CreateEmployeeInput> employeeInputs){
+        if(employeeInputs == null || employeeInputs.isEmpty() || employeeInputs.size() > MAX_BATCH_ITEMS){
+            throw new ValidationException(CustomError.INVALID_BATCH_SIZE);
+        }
+        BatchItemResult[] results = new BatchItemResult[employeeInputs.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<CreateEmployeeDTO> validItems = new ArrayList<>();
+        for(int i = 0; i < employeeInputs.size(); i++){
+            CreateEmployeeInput employeeInput = employeeInputs.get(i);
+            try{
+                validItems.add((employeeInput == null ? CreateEmployeeInput.EMPTY : employeeInput).validated());
+                validIndexes.add(i);
+            }catch (ValidationException e){
+                results[i] = BatchItemResult.invalid(i, e.getErrors());
+            }
+        }
+        int chunkSize = employeeBatchProperties.getChunkSize();
+        int createdCount = 0;
+        for(int from = 0; from < validItems.size(); from += chunkSize){
+            int to = Math.min(from + chunkSize, validItems.size());
+            log.info("Calling external service to create {} employees", to - from);
+            List<Employee> created = List.of();
+            try{
+                EmployeeResponseList response = employeeGateway.createEmployees(validItems.subList(from, to));
+                if(response != null && response.getData() != null){
+                    created = response.getData();
+                }
+            }catch (FeignException | CustomException e){
+                log.error("Error creating batch of employees: {}", e.getMessage());
+            }
+            for(int j = from; j < to; j++){
+                int index = validIndexes.get(j);
+                if(j - from < created.size()){
+                    Employee employee = created.get(j - from);
+                    employeeRosterCache.onEmployeeCreated(employee);
+                    results[index] = BatchItemResult.created(index, employee);
+                    createdCount++;
+                }else{
+                    results[index] = BatchItemResult.rejected(index, BatchItemResult.Status.FAILED, CustomError.FEIGN_CLIENT_ERROR);
+                }
+            }
+        }
+        log.info("Batch create finished, {} of {} employees created", createdCount, employeeInputs.size());
+        return Arrays.asList(results);
+    }
+
     public String deleteEmployeeById(String id){
         if(id == null){
             throw new ValidationException(CustomError.ID_CAN_NOT_BE_NULL);
         }
-        Employee employee = getEmployeeById(id);
-        DeleteEmployeeDTO deleteEmployeeDTO = new DeleteEmployeeDTO(employee.getName());
+        //the upstream server deletes by name, so a by-id lookup is only needed when the name is not known to be unique.
+        String name = employeeDirectory.uniqueName(id)
+                .orElseGet(() -> getEmployeeById(id).getName());
+        DeleteEmployeeDTO deleteEmployeeDTO = new DeleteEmployeeDTO(name);
         log.info("Calling external service");
         try{
-            employeeClient.deleteEmployeeById(deleteEmployeeDTO);
+            employeeGateway.deleteEmployeeById(deleteEmployeeDTO);
+            employeeDirectory.forget(id);
+            employeeRosterCache.onEmployeeDeleted(id);
             log.info("Successfully deleted employee with id : {}", id);
-            return employee.getName();
+            return name;
         }catch (FeignException e) {
             log.error("Error deleting employee: {}", e.getMessage());
-            throw new CustomException(CustomError.FEIGN_CLIENT_ERROR);
+            throw new CustomException(CustomError.FEIGN_CLIENT_ERROR, e);
         }
     }
 
+    private RosterSnapshot rosterSnapshot(){
+        RosterSnapshot snapshot = employeeRosterCache.snapshot();
+        if(snapshot.size() == 0){
+            log.debug("No Data found");
+            throw new CustomException(CustomError.NO_DATA_FOUND);
+        }
+        return snapshot;
+    }
+
+    private <F extends RosterFold> F streamedRoster(F fold){
+        log.info("Calling external service for streamed roster");
+        employeeGateway.foldAllEmployees(fold);
+        if(fold.records() == 0){
+            log.debug("No Data found");
+            throw new CustomException(CustomError.NO_DATA_FOUND);
+        }
+        return fold;
+    }
+
     //fallback method when retry fails.
     public List<Employee> fallbackGetAllEmployees(FeignException e) throws CustomException{
         log.error("Feign client exception : {}",e.getMessage());
-        throw new CustomException(CustomError.RETRY_ERROR);
+        countFallback("fallbackGetAllEmployees");
+        throw new CustomException(CustomError.RETRY_ERROR, e);
+    }
+
+    //fallback method when retry fails.
+    public EmployeePage fallbackGetEmployeePage(int limit, String cursor, FeignException e) throws CustomException{
+        log.error("Feign client exception : {}",e.getMessage());
+        countFallback("fallbackGetEmployeePage");
+        throw new CustomException(CustomError.RETRY_ERROR, e);
+    }
+
+    //fallback method when retry fails.
+    public EmployeeLookup fallbackGetEmployeesByIds(List<String> ids, FeignException e) throws CustomException{
+        log.error("Feign client exception : {}",e.getMessage());
+        countFallback("fallbackGetEmployeesByIds");
+        throw new CustomException(CustomError.RETRY_ERROR, e);
     }
 
     //fallback method when retry fails.
     public Employee fallbackGetEmployeeById(FeignException e) throws CustomException{
         log.error("Feign client exception : {}",e.getMessage());
-        throw new CustomException(CustomError.RETRY_ERROR);
+        countFallback("fallbackGetEmployeeById");
+        throw new CustomException(CustomError.RETRY_ERROR, e);
+    }
+
+    //counts fallbacks by method, so retries that ran out show up next to resilience4j.retry.calls.
+    private void countFallback(String method){
+        meterRegistry.counter("employee.retry.fallbacks", "method", method).increment();
     }
 }
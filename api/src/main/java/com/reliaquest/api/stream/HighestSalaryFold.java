@@ -0,0 +1,31 @@
+package com.reliaquest.api.stream;
+
+import java.util.OptionalInt;
+
+/**
+ * Keeps the running maximum salary.
+ */
+public class HighestSalaryFold implements RosterFold {
+
+    private int records;
+    private boolean found;
+    private int highestSalary;
+
+    @Override
+    public void accept(RosterRecord record) {
+        records++;
+        if (record.hasSalary() && (!found || record.salary() > highestSalary)) {
+            highestSalary = record.salary();
+            found = true;
+        }
+    }
+
+    @Override
+    public int records() {
+        return records;
+    }
+
+    public OptionalInt highestSalary() {
+        return found ? OptionalInt.of(highestSalary) : OptionalInt.empty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.stream;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.models.Employee;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads an {@code application/x-ndjson} roster one employee at a time, handing each to the sink before the next line
+ * is parsed.
+ */
+public final class NdjsonEmployeeReader {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final ObjectReader READER = new ObjectMapper().readerFor(Employee.class);
+
+    private NdjsonEmployeeReader() {
+    }
+
+    /**
+     * @return the number of employees read
+     */
+    public static int forEach(InputStream body, Consumer<Employee> sink) throws IOException {
+        int count = 0;
+        try (MappingIterator<Employee> employees = READER.readValues(body)) {
+            while (employees.hasNextValue()) {
+                sink.accept(employees.nextValue());
+                count++;
+            }
+        }
+        return count;
+    }
+}
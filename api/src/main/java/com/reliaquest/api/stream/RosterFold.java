@@ -0,0 +1,16 @@
+package com.reliaquest.api.stream;
+
+/**
+ * Aggregate computed one roster element at a time by {@link RosterStreamReader}.
+ */
+public interface RosterFold {
+
+    /**
+     * Called once per element of the roster. The record is reused for the next element, so anything kept must be
+     * copied out of it.
+     */
+    void accept(RosterRecord record);
+
+    /** Number of elements folded so far. */
+    int records();
+}
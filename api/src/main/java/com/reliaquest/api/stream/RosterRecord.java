@@ -0,0 +1,51 @@
+package com.reliaquest.api.stream;
+
+import java.util.Arrays;
+
+/**
+ * Mutable view of the roster element currently under the parser. The name is held as characters and only turned into
+ * a {@link String} when a fold asks for it.
+ */
+public final class RosterRecord {
+
+    private char[] name = new char[64];
+    private int nameLength;
+    private boolean hasName;
+    private int salary;
+    private boolean hasSalary;
+
+    void reset() {
+        hasName = false;
+        hasSalary = false;
+    }
+
+    void setName(char[] buffer, int offset, int length) {
+        if (name.length < length) {
+            name = Arrays.copyOf(name, Math.max(length, name.length * 2));
+        }
+        System.arraycopy(buffer, offset, name, 0, length);
+        nameLength = length;
+        hasName = true;
+    }
+
+    void setSalary(int salary) {
+        this.salary = salary;
+        this.hasSalary = true;
+    }
+
+    public boolean hasName() {
+        return hasName;
+    }
+
+    public String name() {
+        return hasName ? new String(name, 0, nameLength) : null;
+    }
+
+    public boolean hasSalary() {
+        return hasSalary;
+    }
+
+    public int salary() {
+        return salary;
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Walks an upstream roster response ({@code {"status": ..., "data": [...]}}) with a {@link JsonParser} and feeds each
+ * element of {@code data} to a {@link RosterFold}, without building {@code Employee} objects or the list that holds
+ * them. Only the name and salary are read; every other field is skipped.
+ */
+public final class RosterStreamReader {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private RosterStreamReader() {
+    }
+
+    public static <F extends RosterFold> F fold(InputStream body, F fold) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a roster object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    readRecords(parser, fold);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return fold;
+    }
+
+    private static void readRecords(JsonParser parser, RosterFold fold) throws IOException {
+        RosterRecord record = new RosterRecord();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            record.reset();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "employee_name" -> {
+                        if (value == JsonToken.VALUE_STRING) {
+                            record.setName(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                        }
+                    }
+                    case "employee_salary" -> {
+                        if (value == JsonToken.VALUE_NUMBER_INT) {
+                            record.setSalary(parser.getIntValue());
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            fold.accept(record);
+        }
+    }
+}
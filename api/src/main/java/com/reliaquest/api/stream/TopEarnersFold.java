@@ -0,0 +1,60 @@
+package com.reliaquest.api.stream;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the names of the {@code limit} best paid employees in a min-heap, so memory is bounded by the limit rather than
+ * the roster. Equal salaries keep roster order, the same as a stable descending sort.
+ */
+public class TopEarnersFold implements RosterFold {
+
+    private static final Comparator<Earner> WORST_FIRST = Comparator.comparingInt(Earner::salary)
+            .thenComparing(Comparator.comparingInt(Earner::position).reversed());
+
+    private final int limit;
+    private final PriorityQueue<Earner> heap;
+    private int records;
+
+    public TopEarnersFold(int limit) {
+        this.limit = limit;
+        this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, WORST_FIRST);
+    }
+
+    @Override
+    public void accept(RosterRecord record) {
+        int position = records++;
+        if (!record.hasSalary()) {
+            return;
+        }
+        if (heap.size() < limit) {
+            heap.add(new Earner(record.salary(), position, record.name()));
+        } else if (record.salary() > heap.peek().salary()) {
+            heap.poll();
+            heap.add(new Earner(record.salary(), position, record.name()));
+        }
+    }
+
+    @Override
+    public int records() {
+        return records;
+    }
+
+    /**
+     * Names from the highest salary down.
+     */
+    public List<String> names() {
+        List<Earner> earners = new ArrayList<>(heap);
+        earners.sort(WORST_FIRST.reversed());
+        List<String> names = new ArrayList<>(earners.size());
+        for (Earner earner : earners) {
+            names.add(earner.name());
+        }
+        return names;
+    }
+
+    private record Earner(int salary, int position, String name) {
+    }
+}
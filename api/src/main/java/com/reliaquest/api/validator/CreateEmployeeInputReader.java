@@ -0,0 +1,66 @@
+package com.reliaquest.api.validator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.reliaquest.api.models.CreateEmployeeInput;
+
+import java.io.IOException;
+
+/**
+ * Binds a create-employee body straight from the token stream, without an intermediate map or boxed values for
+ * fields that are thrown away. Type checks match {@link CreateEmployeeInputValidation#ValidateInput}: names and titles
+ * must be JSON strings and salary and age JSON integers that fit an int. Anything else is bound as missing rather than
+ * coerced or rejected here, so validation can report every bad field at once. Unknown fields are skipped.
+ */
+public class CreateEmployeeInputReader extends StdDeserializer<CreateEmployeeInput> {
+
+    public CreateEmployeeInputReader() {
+        super(CreateEmployeeInput.class);
+    }
+
+    @Override
+    public CreateEmployeeInput deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            parser.skipChildren();
+            return CreateEmployeeInput.EMPTY;
+        }
+        String name = null;
+        Integer salary = null;
+        Integer age = null;
+        String title = null;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "name" -> name = string(parser, token);
+                case "salary" -> salary = integer(parser, token);
+                case "age" -> age = integer(parser, token);
+                case "title" -> title = string(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        return new CreateEmployeeInput(name, salary, age, title);
+    }
+
+    @Override
+    public CreateEmployeeInput getNullValue(DeserializationContext context) {
+        return CreateEmployeeInput.EMPTY;
+    }
+
+    private static String string(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Integer integer(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
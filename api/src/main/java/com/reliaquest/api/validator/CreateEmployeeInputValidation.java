@@ -5,47 +5,63 @@ import com.reliaquest.api.exception.ValidationException;
 import com.reliaquest.api.models.CreateEmployeeDTO;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 public class CreateEmployeeInputValidation {
     public static CreateEmployeeDTO ValidateInput(Map<String, Object> employeeInput) throws ValidationException {
         log.info("Validation started for create employee request body");
+        CreateEmployeeDTO createEmployeeDTO = validated(
+                employeeInput.get("name") instanceof String name ? name : null,
+                employeeInput.get("salary") instanceof Integer salary ? salary : null,
+                employeeInput.get("age") instanceof Integer age ? age : null,
+                employeeInput.get("title") instanceof String title ? title : null);
+        log.info("Validation successful for create employee input");
+        return createEmployeeDTO;
+    }
 
-        if (!employeeInput.containsKey("name") || !(employeeInput.get("name") instanceof String) ||
-                ((String) employeeInput.get("name")).isBlank()) {
-            throw new ValidationException(CustomError.INVALID_OR_MISSING_NAME);
-        }
-
-        if (!employeeInput.containsKey("salary") || !(employeeInput.get("salary") instanceof Integer)) {
-            throw new ValidationException(CustomError.INVALID_OR_MISSING_SALARY);
+    //runs every check and reports all failures together; a null argument means the field was missing or of the wrong
+    //type. EnumSet keeps the failures in CustomError order, which is the order the checks run in.
+    public static CreateEmployeeDTO validated(String name, Integer salary, Integer age, String title) throws ValidationException {
+        Set<CustomError> errors = null;
+        if (name == null || name.isBlank()) {
+            errors = add(errors, CustomError.INVALID_OR_MISSING_NAME);
         }
 
-        if ((Integer) employeeInput.get("salary") < 0) {
-            throw new ValidationException(CustomError.MINIMUM_SALARY_ERROR);
+        if (salary == null) {
+            errors = add(errors, CustomError.INVALID_OR_MISSING_SALARY);
+        } else if (salary < 0) {
+            errors = add(errors, CustomError.MINIMUM_SALARY_ERROR);
         }
 
-        if (!employeeInput.containsKey("age") || !(employeeInput.get("age") instanceof Integer)) {
-            throw new ValidationException(CustomError.INVALID_OR_MISSING_AGE);
+        if (age == null) {
+            errors = add(errors, CustomError.INVALID_OR_MISSING_AGE);
+        } else if (age < 16) {
+            errors = add(errors, CustomError.MINIMUM_AGE_ERROR);
+        } else if (age > 75) {
+            errors = add(errors, CustomError.MAXIMUM_AGE_ERROR);
         }
 
-        if ((Integer) employeeInput.get("age") < 16) {
-            throw new ValidationException(CustomError.MINIMUM_AGE_ERROR);
-        } else if ((Integer) employeeInput.get("age") > 75) {
-            throw new ValidationException(CustomError.MAXIMUM_AGE_ERROR);
+        if (title == null || title.isBlank()) {
+            errors = add(errors, CustomError.INVALID_OR_MISSING_TITLE);
         }
 
-        if (!employeeInput.containsKey("title") || !(employeeInput.get("title") instanceof String) ||
-                ((String) employeeInput.get("title")).isBlank()) {
-            throw new ValidationException(CustomError.INVALID_OR_MISSING_TITLE);
+        if (errors != null) {
+            throw new ValidationException(errors);
         }
-        log.info("Validation successful for create employee input");
-
         return CreateEmployeeDTO.builder()
-                .name((String) employeeInput.get("name"))
-                .age((Integer) employeeInput.get("age"))
-                .salary((Integer) employeeInput.get("salary"))
-                .title((String) employeeInput.get("title"))
+                .name(name)
+                .age(age)
+                .salary(salary)
+                .title(title)
                 .build();
     }
+
+    private static Set<CustomError> add(Set<CustomError> errors, CustomError error) {
+        Set<CustomError> result = errors == null ? EnumSet.noneOf(CustomError.class) : errors;
+        result.add(error);
+        return result;
+    }
 }
@@ -5,6 +5,9 @@ import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.CustomException;
 import com.reliaquest.api.external.EmployeeClient;
 import com.reliaquest.api.models.*;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,12 +17,15 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "employee.cache.enabled=false")
 public class IntegrationTests {
     @LocalServerPort
     private int port;
@@ -56,7 +62,7 @@ public class IntegrationTests {
 
     @Test
     void getAllEmployees_Success() {
-        when(employeeClient.getAllEmployees()).thenReturn(employeeResponseList);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(employeeResponseList));
         ResponseEntity<Employee[]> response = restTemplate.getForEntity(baseUrl + "/employee", Employee[].class);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -64,6 +70,35 @@ public class IntegrationTests {
         assertEquals(employeeResponseList.getData(), employeeListFromResponse);
     }
 
+    @Test
+    void getAllEmployees_RevalidatesWithETag() {
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(employeeResponseList));
+        ResponseEntity<String> first = restTemplate.getForEntity(baseUrl + "/employee", String.class);
+        String eTag = first.getHeaders().getETag();
+        assertNotNull(eTag);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<String> second = restTemplate.exchange(baseUrl + "/employee", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+    }
+
+    @Test
+    void getEmployeePage_ForwardsNextCursor() {
+        HttpHeaders upstreamHeaders = new HttpHeaders();
+        upstreamHeaders.add("X-Next-Cursor", "MDo0");
+        when(employeeClient.getEmployeePage(1, null))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponseList("Success", employeeList.subList(0, 1)), upstreamHeaders, HttpStatus.OK));
+
+        ResponseEntity<Employee[]> response = restTemplate.getForEntity(baseUrl + "/employee?limit=1", Employee[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, Objects.requireNonNull(response.getBody()).length);
+        assertEquals("MDo0", response.getHeaders().getFirst("X-Next-Cursor"));
+    }
+
     @Test
     void getEmployeeById_Success() {
         when(employeeClient.getEmployeeById("1")).thenReturn(employeeResponse);
@@ -72,6 +107,18 @@ public class IntegrationTests {
         assertEquals("1", Objects.requireNonNull(employeeResponse.getBody()).getId());
     }
 
+    @Test
+    void getEmployeesByIds_ReportsMissingIds() {
+        when(employeeClient.getEmployeeById("1")).thenReturn(employeeResponse);
+        when(employeeClient.getEmployeeById("999")).thenThrow(FeignException.NotFound.class);
+
+        ResponseEntity<EmployeeLookup> response = restTemplate.postForEntity(baseUrl + "/employee/ids", List.of("1", "999"), EmployeeLookup.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(employee), Objects.requireNonNull(response.getBody()).getData());
+        assertEquals(List.of("999"), response.getBody().getMissingIds());
+    }
+
     @Test
     void getEmployeeById_NotFound() {
         when(employeeClient.getEmployeeById("999")).thenThrow(new CustomException(CustomError.ID_CAN_NOT_BE_NULL));
@@ -80,13 +127,36 @@ public class IntegrationTests {
         assertNotNull(response);
     }
 
+    @Test
+    void streamAllEmployees_Ndjson() throws Exception {
+        StringBuilder lines = new StringBuilder();
+        for (Employee e : employeeList) {
+            lines.append(objectMapper.writeValueAsString(e)).append('\n');
+        }
+        when(employeeClient.streamAllEmployeesNdjson()).thenReturn(Response.builder()
+                .status(200)
+                .request(Request.create(Request.HttpMethod.GET, "/employee", Map.of(), null, StandardCharsets.UTF_8, null))
+                .body(lines.toString(), StandardCharsets.UTF_8)
+                .build());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.parseMediaType("application/x-ndjson")));
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/employee", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/x-ndjson", Objects.requireNonNull(response.getHeaders().getContentType()).toString());
+        String[] body = Objects.requireNonNull(response.getBody()).split("\n");
+        assertEquals(2, body.length);
+        assertEquals(employeeList.get(1), objectMapper.readValue(body[1], Employee.class));
+    }
+
     @Test
     void getEmployeesByNameSearch_Success() {
         employeeList = Arrays.asList(
                 new Employee("1","Braelyn Monroe",50000, 30, "Software Developer", "BM@abc.com")
         );
         employeeResponseList = new EmployeeResponseList("Success", employeeList);
-        when(employeeClient.getAllEmployees()).thenReturn(employeeResponseList);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(employeeResponseList));
 
         ResponseEntity<Employee[]> employeeResponse = restTemplate.getForEntity(baseUrl + "/employee/search/Braelyn", Employee[].class);
         assertEquals(HttpStatus.OK, employeeResponse.getStatusCode());
@@ -96,8 +166,8 @@ public class IntegrationTests {
     }
 
     @Test
-    void getHighestSalaryOfEmployees_Success() {
-        when(employeeClient.getAllEmployees()).thenReturn(employeeResponseList);
+    void getHighestSalaryOfEmployees_Success() throws Exception {
+        when(employeeClient.streamAllEmployees()).thenReturn(rosterResponse(employeeResponseList));
         ResponseEntity<Integer> employeeResponse = restTemplate.getForEntity(baseUrl + "/employee/highest-salary", Integer.class);
         assertEquals(HttpStatus.OK, employeeResponse.getStatusCode());
         assertNotNull(employeeResponse);
@@ -106,7 +176,7 @@ public class IntegrationTests {
     }
 
     @Test
-    void getTopTenHighestEarningEmployeeNames_Success() {
+    void getTopTenHighestEarningEmployeeNames_Success() throws Exception {
         employeeList = Arrays.asList(
                 new Employee("1", "Braelyn Monroe", 50000, 30, "Software Developer", "BM@abc.com"),
                 new Employee("2", "Emersyn Stewart", 70000, 40, "Application Developer", "ES@abc.com"),
@@ -120,10 +190,11 @@ public class IntegrationTests {
                 new Employee("10", "Casey Wilson", 72000, 33, "Software Architect", "CW@abc.com")
         );
         employeeResponseList = new EmployeeResponseList("Success", employeeList);
-        when(employeeClient.getAllEmployees()).thenReturn(employeeResponseList);
+        when(employeeClient.streamAllEmployees()).thenReturn(rosterResponse(employeeResponseList));
         ResponseEntity<String[]> employeeResponse = restTemplate.getForEntity(baseUrl + "/employee/top-10-highest-earning", String[].class);
         assertEquals(HttpStatus.OK, employeeResponse.getStatusCode());
         assertNotNull(employeeResponse);
+        assertEquals("Morgan White", Objects.requireNonNull(employeeResponse.getBody())[0]);
     }
 
     @Test
@@ -174,4 +245,12 @@ public class IntegrationTests {
         ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/deleteById/999", HttpMethod.DELETE, null, String.class);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
+
+    private Response rosterResponse(EmployeeResponseList roster) throws Exception {
+        return Response.builder()
+                .status(200)
+                .request(Request.create(Request.HttpMethod.GET, "/employee", Map.of(), null, StandardCharsets.UTF_8, null))
+                .body(objectMapper.writeValueAsBytes(roster))
+                .build();
+    }
 }
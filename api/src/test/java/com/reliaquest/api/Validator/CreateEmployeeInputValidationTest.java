@@ -1,12 +1,15 @@
 package com.reliaquest.api.Validator;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.ValidationException;
 import com.reliaquest.api.models.CreateEmployeeDTO;
+import com.reliaquest.api.models.CreateEmployeeInput;
 import com.reliaquest.api.validator.CreateEmployeeInputValidation;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -161,4 +164,49 @@ public class CreateEmployeeInputValidationTest {
 
         assertEquals(CustomError.INVALID_OR_MISSING_TITLE, exception.getError());
     }
+
+    @Test
+    void ValidateInput_ReportsEveryFailedCheck() {
+        Map<String, Object> employeeInput = new HashMap<>();
+        employeeInput.put("name", "");
+        employeeInput.put("salary", 70000);
+        employeeInput.put("age", 12);
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            CreateEmployeeInputValidation.ValidateInput(employeeInput);
+        });
+
+        assertEquals(CustomError.INVALID_OR_MISSING_NAME, exception.getError());
+        assertEquals(List.of(CustomError.INVALID_OR_MISSING_NAME, CustomError.MINIMUM_AGE_ERROR,
+                CustomError.INVALID_OR_MISSING_TITLE), exception.getErrors());
+    }
+
+    @Test
+    void CreateEmployeeInput_BindsAndValidates() throws Exception {
+        CreateEmployeeInput input = new ObjectMapper().readValue(
+                "{\"name\":\"Peter Parker\",\"salary\":70000,\"age\":40,\"title\":\"Accountant\",\"email\":{\"work\":\"p@x.com\"}}",
+                CreateEmployeeInput.class);
+
+        CreateEmployeeDTO result = input.validated();
+
+        assertEquals(new CreateEmployeeDTO("Peter Parker", 70000, 40, "Accountant"), result);
+    }
+
+    @Test
+    void CreateEmployeeInput_WrongTypesBindAsMissing() throws Exception {
+        CreateEmployeeInput input = new ObjectMapper().readValue(
+                "{\"name\":[\"Peter\"],\"salary\":\"70000\",\"age\":40.5,\"title\":\"Accountant\"}",
+                CreateEmployeeInput.class);
+
+        assertEquals(new CreateEmployeeInput(null, null, null, "Accountant"), input);
+        ValidationException exception = assertThrows(ValidationException.class, input::validated);
+        assertEquals(List.of(CustomError.INVALID_OR_MISSING_NAME, CustomError.INVALID_OR_MISSING_SALARY,
+                CustomError.INVALID_OR_MISSING_AGE), exception.getErrors());
+    }
+
+    @Test
+    void CreateEmployeeInput_NullBodyBindsAsEmpty() throws Exception {
+        assertEquals(CreateEmployeeInput.EMPTY, new ObjectMapper().readValue("null", CreateEmployeeInput.class));
+        assertEquals(CreateEmployeeInput.EMPTY, new ObjectMapper().readValue("[1, 2]", CreateEmployeeInput.class));
+    }
 }
@@ -0,0 +1,268 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.EmployeeDirectoryProperties;
+import com.reliaquest.api.config.EmployeeRateLimitProperties;
+import com.reliaquest.api.config.EmployeeSearchProperties;
+import com.reliaquest.api.external.AdaptiveRateLimiter;
+import com.reliaquest.api.external.EmployeeClient;
+import com.reliaquest.api.external.EmployeeDirectory;
+import com.reliaquest.api.external.FeignAsyncEmployeeClient;
+import com.reliaquest.api.external.EmployeeGateway;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeResponseList;
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRosterCacheTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    private MutableClock clock;
+    private EmployeeRosterCache employeeRosterCache;
+
+    private final Employee alice = new Employee("1", "Alice", 8000, 30, "Manager", "alice@company.com");
+    private final Employee bob = new Employee("2", "Bob", 5000, 28, "Developer", "bob@company.com");
+
+    @BeforeEach
+    void setUp() {
+        EmployeeCacheProperties properties = new EmployeeCacheProperties();
+        properties.setTtl(Duration.ofSeconds(30));
+        properties.setStaleWhileRevalidate(Duration.ofSeconds(60));
+        properties.setStaleIfError(Duration.ofMinutes(10));
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        employeeRosterCache = new EmployeeRosterCache(new EmployeeGateway(new FeignAsyncEmployeeClient(employeeClient), disabledRateLimiter(), new EmployeeDirectory(new EmployeeDirectoryProperties()), new SimpleMeterRegistry()), properties, new EmployeeSearchProperties(), new SimpleMeterRegistry(), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRosterCache.shutdown();
+    }
+
+    @Test
+    void snapshot_ServedFromMemoryWithinTtl() {
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice, bob))));
+
+        employeeRosterCache.snapshot();
+        clock.advance(Duration.ofSeconds(29));
+        RosterSnapshot snapshot = employeeRosterCache.snapshot();
+
+        assertEquals(2, snapshot.size());
+        verify(employeeClient, times(1)).getAllEmployees(any());
+    }
+
+    @Test
+    void snapshot_StaleServedWhileRevalidating() {
+        when(employeeClient.getAllEmployees(any()))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice))))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice, bob))));
+
+        employeeRosterCache.snapshot();
+        clock.advance(Duration.ofSeconds(45));
+
+        assertEquals(1, employeeRosterCache.snapshot().size());
+        verify(employeeClient, timeout(1000).times(2)).getAllEmployees(any());
+    }
+
+    @Test
+    void snapshot_StaleServedWhenReloadFails() {
+        when(employeeClient.getAllEmployees(any()))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice))))
+                .thenThrow(mock(FeignException.TooManyRequests.class));
+
+        employeeRosterCache.snapshot();
+        clock.advance(Duration.ofMinutes(5));
+
+        assertEquals(1, employeeRosterCache.snapshot().size());
+    }
+
+    @Test
+    void snapshot_ReloadFailurePropagatesPastStaleIfError() {
+        when(employeeClient.getAllEmployees(any()))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice))))
+                .thenThrow(mock(FeignException.TooManyRequests.class));
+
+        employeeRosterCache.snapshot();
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThrows(FeignException.class, employeeRosterCache::snapshot);
+    }
+
+    @Test
+    void onEmployeeCreatedAndDeleted_PatchesSnapshot() {
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice))));
+        employeeRosterCache.snapshot();
+
+        employeeRosterCache.onEmployeeCreated(bob);
+        employeeRosterCache.onEmployeeDeleted("1");
+
+        assertEquals(List.of(bob), employeeRosterCache.snapshot().employees());
+        verify(employeeClient, times(1)).getAllEmployees(any());
+    }
+
+    @Test
+    void snapshot_ReplaysWritesMadeDuringFetch() {
+        when(employeeClient.getAllEmployees(any())).thenAnswer(invocation -> {
+            employeeRosterCache.onEmployeeCreated(bob);
+            return ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice)));
+        });
+
+        assertEquals(List.of(alice, bob), employeeRosterCache.snapshot().employees());
+        verify(employeeClient, times(1)).getAllEmployees(any());
+    }
+
+    @Test
+    void snapshot_ReloadJoiningFetchKeepsWriteMadeAfterItLeft() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        when(employeeClient.getAllEmployees(any())).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            releaseFetch.await();
+            return ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice)));
+        });
+        FutureTask<RosterSnapshot> first = new FutureTask<>(employeeRosterCache::snapshot);
+        new Thread(first).start();
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+
+        //created after the upstream GET left, so only a replay can put bob into the roster it returns.
+        employeeRosterCache.onEmployeeCreated(bob);
+        FutureTask<RosterSnapshot> second = new FutureTask<>(employeeRosterCache::snapshot);
+        Thread joiner = new Thread(second);
+        joiner.start();
+        awaitParked(joiner);
+        releaseFetch.countDown();
+
+        assertEquals(List.of(alice, bob), first.get(5, TimeUnit.SECONDS).employees());
+        assertEquals(List.of(alice, bob), second.get(5, TimeUnit.SECONDS).employees());
+        assertEquals(List.of(alice, bob), employeeRosterCache.snapshot().employees());
+        verify(employeeClient, times(1)).getAllEmployees(any());
+    }
+
+    @Test
+    void snapshot_RefetchesWhenWritesDuringFetchOverflowBuffer() {
+        when(employeeClient.getAllEmployees(any()))
+                .thenAnswer(invocation -> {
+                    for (int i = 0; i < 300; i++) {
+                        employeeRosterCache.onEmployeeDeleted("gone-" + i);
+                    }
+                    employeeRosterCache.onEmployeeCreated(bob);
+                    return ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice)));
+                })
+                .thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice, bob))));
+
+        assertEquals(List.of(alice, bob), employeeRosterCache.snapshot().employees());
+        assertEquals(List.of(alice, bob), employeeRosterCache.snapshot().employees());
+        verify(employeeClient, times(2)).getAllEmployees(any());
+    }
+
+    @Test
+    void snapshot_NotCachedWhileWritesKeepOverflowingBuffer() {
+        when(employeeClient.getAllEmployees(any())).thenAnswer(invocation -> {
+            for (int i = 0; i < 300; i++) {
+                employeeRosterCache.onEmployeeDeleted("gone-" + i);
+            }
+            return ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice)));
+        });
+
+        employeeRosterCache.snapshot();
+
+        verify(employeeClient, times(3)).getAllEmployees(any());
+        assertFalse(employeeRosterCache.isServableWithoutFetch());
+    }
+
+    @Test
+    void snapshot_DisabledAlwaysCallsUpstream() {
+        EmployeeCacheProperties properties = new EmployeeCacheProperties();
+        properties.setEnabled(false);
+        EmployeeRosterCache uncached = new EmployeeRosterCache(new EmployeeGateway(new FeignAsyncEmployeeClient(employeeClient), disabledRateLimiter(), new EmployeeDirectory(new EmployeeDirectoryProperties()), new SimpleMeterRegistry()), properties, new EmployeeSearchProperties(), new SimpleMeterRegistry(), clock);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of(alice))));
+
+        uncached.snapshot();
+        uncached.snapshot();
+
+        verify(employeeClient, times(2)).getAllEmployees(any());
+        uncached.shutdown();
+    }
+
+    @Test
+    void snapshot_ReusesRosterWhenUpstreamAnswersNotModified() {
+        EmployeeCacheProperties properties = new EmployeeCacheProperties();
+        properties.setEnabled(false);
+        EmployeeRosterCache uncached = new EmployeeRosterCache(new EmployeeGateway(new FeignAsyncEmployeeClient(employeeClient), disabledRateLimiter(), new EmployeeDirectory(new EmployeeDirectoryProperties()), new SimpleMeterRegistry()), properties, new EmployeeSearchProperties(), new SimpleMeterRegistry(), clock);
+        FeignException notModified = mock(FeignException.class);
+        when(notModified.status()).thenReturn(304);
+        when(employeeClient.getAllEmployees(null))
+                .thenReturn(ResponseEntity.ok().eTag("\"v1\"").body(new EmployeeResponseList("Success", List.of(alice))));
+        when(employeeClient.getAllEmployees("\"v1\"")).thenThrow(notModified);
+
+        uncached.snapshot();
+        RosterSnapshot snapshot = uncached.snapshot();
+
+        assertEquals(List.of(alice), snapshot.employees());
+        verify(employeeClient, times(1)).getAllEmployees("\"v1\"");
+        uncached.shutdown();
+    }
+
+    private static void awaitParked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            assertTrue(System.nanoTime() < deadline, "thread never parked");
+            Thread.sleep(1);
+        }
+    }
+
+    private static AdaptiveRateLimiter disabledRateLimiter() {
+        EmployeeRateLimitProperties properties = new EmployeeRateLimitProperties();
+        properties.setEnabled(false);
+        return new AdaptiveRateLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.EmployeeSearchProperties;
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterSnapshotTest {
+
+    private final Employee johnson = new Employee("1", "Alice Johnson", 8000, 30, "Manager", "alice@company.com");
+    private final Employee johnston = new Employee("2", "Bob Johnston", 5000, 28, "Developer", "bob@company.com");
+    private final Employee johns = new Employee("3", "Carl Johns", 8000, 35, "Accountant", "carl@company.com");
+    private final Employee martin = new Employee("4", "Dana Martin", 6000, 41, "Clerk", "dana@company.com");
+
+    @Test
+    void of_IndexesEachEmployeeOnce() {
+        RosterSnapshot snapshot = snapshotOf(johnson, johnston, johns, martin);
+
+        assertEquals(List.of(johnson, johnston, johns), snapshot.searchByName("John"));
+        assertEquals(List.of(johnson), snapshot.searchByName("hnso"));
+        assertEquals(List.of(johnston), snapshot.searchByName("ohnst"));
+        assertEquals(4, snapshot.nameIndex().size());
+        assertEquals(0, snapshot.nameIndex().tombstones());
+        assertEquals(4, snapshot.salaryIndex().size());
+    }
+
+    @Test
+    void put_AndRemove_KeepIndexesInStep() {
+        RosterSnapshot snapshot = snapshotOf(johnson, johnston, johns);
+        assertEquals(List.of(johnson, johnston, johns), snapshot.searchByName("John"));
+
+        snapshot.remove("2");
+        snapshot.put(martin);
+        Employee renamed = new Employee("3", "Carl Martinez", 9000, 35, "Accountant", "carl@company.com");
+        snapshot.put(renamed);
+
+        assertEquals(List.of(johnson), snapshot.searchByName("John"));
+        assertEquals(List.of(martin, renamed), snapshot.searchByName("Martin"));
+        assertEquals(3, snapshot.nameIndex().size());
+        assertEquals(2, snapshot.nameIndex().tombstones());
+        assertEquals(OptionalInt.of(9000), snapshot.highestSalary());
+        assertEquals(List.of(renamed, johnson, martin), snapshot.topEarners(5));
+    }
+
+    @Test
+    void of_BuildsIndexesOnFirstQuery() {
+        RosterSnapshot snapshot = snapshotOf(johnson, johnston);
+        snapshot.put(johns);
+
+        assertEquals(List.of(johnson, johnston, johns), snapshot.searchByName("John"));
+        assertEquals(List.of(johnson, johns, johnston), snapshot.topEarners(3));
+    }
+
+    @Test
+    void unindexed_AnswersLikeAnIndexedSnapshot() {
+        List<Employee> roster = List.of(johnson, johnston, johns, martin);
+        RosterSnapshot indexed = RosterSnapshot.of(roster, Instant.EPOCH, new EmployeeSearchProperties());
+        RosterSnapshot unindexed = RosterSnapshot.unindexed(roster, Instant.EPOCH, new EmployeeSearchProperties());
+
+        assertEquals(indexed.searchByName("ohns"), unindexed.searchByName("ohns"));
+        assertEquals(indexed.searchByName("n"), unindexed.searchByName("n"));
+        assertEquals(indexed.highestSalary(), unindexed.highestSalary());
+        assertEquals(indexed.topEarners(3), unindexed.topEarners(3));
+    }
+
+    private static RosterSnapshot snapshotOf(Employee... employees) {
+        return RosterSnapshot.of(List.of(employees), Instant.EPOCH, new EmployeeSearchProperties());
+    }
+}
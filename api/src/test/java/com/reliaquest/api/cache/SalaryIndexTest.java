@@ -0,0 +1,56 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryIndexTest {
+
+    @Test
+    void top_OrdersBySalaryThenInsertionOrder() {
+        SalaryIndex salaryIndex = new SalaryIndex();
+        salaryIndex.add(new Employee("1", "Alice", 5000, 30, "Manager", "alice@company.com"));
+        salaryIndex.add(new Employee("2", "Bob", 8000, 28, "Developer", "bob@company.com"));
+        salaryIndex.add(new Employee("3", "Charlie", 5000, 35, "Accountant", "charlie@company.com"));
+
+        List<String> names = salaryIndex.top(3).stream().map(Employee::getName).toList();
+
+        assertEquals(List.of("Bob", "Alice", "Charlie"), names);
+        assertEquals(OptionalInt.of(8000), salaryIndex.highestSalary());
+    }
+
+    @Test
+    void remove_UpdatesHighestSalary() {
+        SalaryIndex salaryIndex = new SalaryIndex();
+        salaryIndex.add(new Employee("1", "Alice", 5000, 30, "Manager", "alice@company.com"));
+        salaryIndex.add(new Employee("2", "Bob", 8000, 28, "Developer", "bob@company.com"));
+
+        salaryIndex.remove("2");
+
+        assertEquals(OptionalInt.of(5000), salaryIndex.highestSalary());
+        assertEquals(1, salaryIndex.size());
+    }
+
+    @Test
+    void add_ReplacesExistingEntryForSameId() {
+        SalaryIndex salaryIndex = new SalaryIndex();
+        salaryIndex.add(new Employee("1", "Alice", 5000, 30, "Manager", "alice@company.com"));
+        salaryIndex.add(new Employee("1", "Alice", 9000, 30, "Manager", "alice@company.com"));
+
+        assertEquals(1, salaryIndex.size());
+        assertEquals(OptionalInt.of(9000), salaryIndex.highestSalary());
+    }
+
+    @Test
+    void top_LimitLargerThanIndex() {
+        SalaryIndex salaryIndex = new SalaryIndex();
+        salaryIndex.add(new Employee("1", "Alice", 5000, 30, "Manager", "alice@company.com"));
+
+        assertEquals(1, salaryIndex.top(10).size());
+        assertTrue(new SalaryIndex().highestSalary().isEmpty());
+    }
+}
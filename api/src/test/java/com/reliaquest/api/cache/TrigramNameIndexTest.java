@@ -0,0 +1,68 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramNameIndexTest {
+
+    private final Employee alice = new Employee("1", "Alice Johnson", 8000, 30, "Manager", "alice@company.com");
+    private final Employee bob = new Employee("2", "Bob Johnston", 5000, 28, "Developer", "bob@company.com");
+    private final Employee chloe = new Employee("3", "Chloé Martin", 7000, 35, "Accountant", "chloe@company.com");
+
+    @Test
+    void search_MatchesSubstringsInRosterOrder() {
+        TrigramNameIndex index = indexOf(false, false, alice, bob, chloe);
+
+        assertEquals(List.of(alice, bob), index.search("Johns"));
+        assertEquals(List.of(bob), index.search("ohnst"));
+        assertEquals(List.of(), index.search("johns"));
+    }
+
+    @Test
+    void search_ShortQueryFallsBackToScan() {
+        TrigramNameIndex index = indexOf(false, false, alice, bob, chloe);
+
+        assertEquals(List.of(alice, bob, chloe), index.search("o"));
+        assertEquals(List.of(alice, bob, chloe), index.search(""));
+    }
+
+    @Test
+    void search_RejectsCandidatesSharingTrigramsOnly() {
+        Employee anna = new Employee("4", "Annabel Nab", 1000, 20, "Clerk", "anna@company.com");
+        TrigramNameIndex index = indexOf(false, false, anna);
+
+        assertEquals(List.of(), index.search("nabel Nabx"));
+        assertEquals(List.of(anna), index.search("abel Nab"));
+    }
+
+    @Test
+    void search_CaseInsensitiveAndNormalized() {
+        Employee decomposed = new Employee("4", "Chloe\u0301 Durand", 1000, 20, "Clerk", "chloe.d@company.com");
+        TrigramNameIndex index = indexOf(true, true, alice, chloe, decomposed);
+
+        assertEquals(List.of(alice), index.search("JOHNSON"));
+        assertEquals(List.of(chloe, decomposed), index.search("chloé"));
+    }
+
+    @Test
+    void remove_DropsEmployeeFromResults() {
+        TrigramNameIndex index = indexOf(false, false, alice, bob);
+
+        index.remove("1");
+
+        assertEquals(List.of(bob), index.search("John"));
+        assertEquals(1, index.size());
+    }
+
+    private static TrigramNameIndex indexOf(boolean caseInsensitive, boolean unicodeNormalized, Employee... employees) {
+        TrigramNameIndex index = new TrigramNameIndex(caseInsensitive, unicodeNormalized);
+        for (Employee employee : employees) {
+            index.add(employee);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeBatchPropertiesTest {
+
+    @Test
+    void chunkSize_BindsUpToServerLimit() {
+        EmployeeBatchProperties properties = bind("1000");
+
+        assertEquals(EmployeeBatchProperties.MAX_CHUNK_SIZE, properties.getChunkSize());
+    }
+
+    @Test
+    void chunkSize_AboveServerLimitFailsBinding() {
+        BindException e = assertThrows(BindException.class, () -> bind("1001"));
+
+        Throwable cause = e;
+        while(cause.getCause() != null){
+            cause = cause.getCause();
+        }
+        assertInstanceOf(IllegalArgumentException.class, cause);
+        assertTrue(cause.getMessage().contains("1001"));
+    }
+
+    @Test
+    void chunkSize_BelowOneFailsBinding() {
+        assertThrows(BindException.class, () -> bind("0"));
+    }
+
+    private static EmployeeBatchProperties bind(String chunkSize) {
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of("employee.batch.chunk-size", chunkSize)));
+        return binder.bind("employee.batch", EmployeeBatchProperties.class).get();
+    }
+}
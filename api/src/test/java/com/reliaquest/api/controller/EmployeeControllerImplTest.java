@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.models.CreateEmployeeInput;
 import com.reliaquest.api.models.Employee;
 import com.reliaquest.api.service.EmployeeService;
 import com.reliaquest.api.exception.CustomException;
@@ -134,28 +135,22 @@ class EmployeeControllerImplTest {
 
     @Test
     void testCreateEmployee_Success() {
-        Map<String, Object> employeeMap = Map.of(
-                "name", "Alex",
-                "salary", 70000,
-                "age", 28,
-                "title", "Engineer",
-                "email", "alex@company.com"
-        );
+        CreateEmployeeInput employeeInput = new CreateEmployeeInput("Alex", 70000, 28, "Engineer");
 
-        when(employeeService.createEmployee(employeeMap)).thenReturn(employee);
+        when(employeeService.createEmployee(employeeInput)).thenReturn(employee);
 
-        ResponseEntity<Employee> response = employeeController.createEmployee(employeeMap);
+        ResponseEntity<Employee> response = employeeController.createEmployee(employeeInput);
 
         assertNotNull(response);
         assertEquals(201, response.getStatusCodeValue());
-        verify(employeeService, times(1)).createEmployee(employeeMap);
+        verify(employeeService, times(1)).createEmployee(employeeInput);
     }
 
     @Test
     void testCreateEmployee_InvalidInput() {
         when(employeeService.createEmployee(any())).thenThrow(new ValidationException(CustomError.INVALID_OR_MISSING_NAME));
 
-        assertThrows(ValidationException.class, () -> employeeController.createEmployee(Map.of()));
+        assertThrows(ValidationException.class, () -> employeeController.createEmployee(CreateEmployeeInput.EMPTY));
         verify(employeeService, times(1)).createEmployee(any());
     }
 
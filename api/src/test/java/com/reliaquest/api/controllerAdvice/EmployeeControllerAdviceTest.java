@@ -0,0 +1,109 @@
+package com.reliaquest.api.controllerAdvice;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.exception.RateLimitedException;
+import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.models.ValidationError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.*;
+
+class EmployeeControllerAdviceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeControllerAdvice advice;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        advice = new EmployeeControllerAdvice(meterRegistry);
+    }
+
+    @Test
+    void handleCustomException_ReturnsCodeAndMessage() {
+        ResponseEntity<Map<String, String>> response =
+                advice.handleCustomException(new CustomException(CustomError.NO_DATA_FOUND));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("error", "E002", "message", "No Employees found"), response.getBody());
+        assertEquals(1, meterRegistry.counter("employee.api.errors",
+                "code", "E002", "type", "CustomException").count());
+    }
+
+    @Test
+    void handleCustomException_SharesBodyPerError() {
+        ResponseEntity<Map<String, String>> first =
+                advice.handleCustomException(new CustomException(CustomError.EMPLOYEE_WITH_GIVEN_NAME_NOT_FOUND));
+        ResponseEntity<Map<String, String>> second =
+                advice.handleCustomException(new CustomException(CustomError.EMPLOYEE_WITH_GIVEN_NAME_NOT_FOUND));
+
+        assertSame(first.getBody(), second.getBody());
+        assertThrows(UnsupportedOperationException.class, () -> first.getBody().put("error", "E000"));
+    }
+
+    @Test
+    void handleValidationException_SingleError() {
+        ResponseEntity<Map<String, ?>> response =
+                advice.handleValidationException(new ValidationException(CustomError.ID_CAN_NOT_BE_NULL));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("error", "E010", "message", "Id cannot be null"), response.getBody());
+    }
+
+    @Test
+    void handleValidationException_ListsEveryError() {
+        List<CustomError> errors = List.of(CustomError.INVALID_OR_MISSING_NAME, CustomError.INVALID_OR_MISSING_TITLE);
+
+        ResponseEntity<Map<String, ?>> response = advice.handleValidationException(new ValidationException(errors));
+
+        assertEquals("E004", response.getBody().get("error"));
+        assertEquals("Invalid or missing name", response.getBody().get("message"));
+        assertEquals(ValidationError.of(errors), response.getBody().get("errors"));
+    }
+
+    @Test
+    void handleRateLimitedException_AnswersTooManyRequestsWithRetryAfter() {
+        ResponseEntity<Map<String, String>> response = advice.handleRateLimitedException(new RateLimitedException(Duration.ofMillis(42300)));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("43", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("E014", response.getBody().get("error"));
+    }
+
+    @Test
+    void handleGeneralException_ReturnsGenericBody() {
+        ResponseEntity<Map<String, String>> response = advice.handleGeneralException(new IllegalStateException("boom"));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertEquals(Map.of("error", "GENERAL_ERROR", "message", "An unexpected error occurred"), response.getBody());
+    }
+
+    @Test
+    void expectedOutcomeExceptions_CaptureNoStackTrace() {
+        assertEquals(0, new CustomException(CustomError.NO_DATA_FOUND).getStackTrace().length);
+        assertEquals(0, new ValidationException(CustomError.INVALID_OR_MISSING_NAME).getStackTrace().length);
+        assertEquals(0, new ValidationException(List.of(CustomError.INVALID_OR_MISSING_NAME)).getStackTrace().length);
+    }
+
+    @Test
+    void faultExceptions_KeepStackTraceAndCause() {
+        IllegalStateException upstream = new IllegalStateException("connection reset");
+
+        CustomException fault = new CustomException(CustomError.FEIGN_CLIENT_ERROR, upstream);
+
+        assertTrue(fault.getStackTrace().length > 0);
+        assertSame(upstream, fault.getCause());
+        assertTrue(new CustomException(CustomError.RETRY_ERROR).getStackTrace().length > 0);
+        assertTrue(new CustomException(CustomError.UPSTREAM_RATE_LIMITED).getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.config.EmployeeRateLimitProperties;
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.exception.RateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateLimiterTest {
+
+    private static final long STEP = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmployeeRateLimitProperties properties;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeRateLimitProperties();
+        properties.setMaxWait(Duration.ZERO);
+        now = 0;
+    }
+
+    @Test
+    void acquire_FailsFastOnceInitialPermitsAreSpentAndLimitIsConfirmed() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(properties, meterRegistry, () -> now);
+
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire().accepted();
+        }
+        rateLimiter.acquire().throttled();
+
+        RateLimitedException exception = assertThrows(RateLimitedException.class, rateLimiter::acquire);
+        assertEquals(CustomError.UPSTREAM_RATE_LIMITED, exception.getError());
+        //first probe halfway between the 30s floor and the 90s ceiling.
+        assertEquals(Duration.ofSeconds(60), exception.getRetryAfter());
+        assertEquals(5, rateLimiter.getEstimatedLimit());
+    }
+
+    @Test
+    void acquire_WithDefaultPropertiesWaitsOutLockout() throws Exception {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(new EmployeeRateLimitProperties(), meterRegistry, () -> now);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire().accepted();
+        }
+        rateLimiter.acquire().throttled();
+
+        CompletableFuture<AdaptiveRateLimiter.Permit> waiting = CompletableFuture.supplyAsync(rateLimiter::acquire);
+        assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+
+        now = TimeUnit.SECONDS.toNanos(60);
+        rateLimiter.acquire().accepted();
+
+        waiting.get(5, TimeUnit.SECONDS).accepted();
+        assertEquals(4, rateLimiter.getAvailablePermits());
+    }
+
+    @Test
+    void acquire_LearnsUpstreamLimitAndLockoutWithoutLaterThrottling() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(properties, meterRegistry, () -> now);
+        MockUpstream upstream = new MockUpstream(8, TimeUnit.SECONDS.toNanos(47));
+        long learningPhase = TimeUnit.MINUTES.toNanos(30);
+        int lateRejections = 0;
+
+        for (now = 0; now < TimeUnit.HOURS.toNanos(1); now += STEP) {
+            AdaptiveRateLimiter.Permit permit;
+            try {
+                permit = rateLimiter.acquire();
+            } catch (CustomException e) {
+                continue;
+            }
+            if (upstream.admit(now)) {
+                permit.accepted();
+            } else {
+                permit.throttled();
+                if (now > learningPhase) {
+                    lateRejections++;
+                }
+            }
+        }
+
+        assertEquals(0, lateRejections);
+        assertEquals(8, rateLimiter.getEstimatedLimit());
+        assertEquals(47, rateLimiter.getEstimatedLockoutSeconds(), 1.0);
+        assertEquals(8.0, meterRegistry.get("employee.client.ratelimit.limit").gauge().value());
+    }
+
+    @Test
+    void failed_RefundsRegularPermit() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(properties, meterRegistry, () -> now);
+
+        rateLimiter.acquire().failed();
+
+        assertEquals(5, rateLimiter.getAvailablePermits());
+    }
+
+    /*
+     * Same admission rules as the server's RandomRequestLimitInterceptor.
+     */
+    private static final class MockUpstream {
+        private final int limit;
+        private final long backoff;
+        private int count;
+        private long lastRequested;
+
+        private MockUpstream(int limit, long backoff) {
+            this.limit = limit;
+            this.backoff = backoff;
+        }
+
+        boolean admit(long now) {
+            if (count >= limit) {
+                if (now - backoff < lastRequested) {
+                    return false;
+                }
+                count = 0;
+                lastRequested = now;
+                return true;
+            }
+            count++;
+            lastRequested = now;
+            return true;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.models.*;
 import feign.FeignException;
+import org.springframework.http.ResponseEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,24 +41,24 @@ class EmployeeClientTest {
 
     @Test
     void testGetAllEmployees_Success() {
-        when(employeeClient.getAllEmployees()).thenReturn(employeeResponseList);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(employeeResponseList));
 
-        EmployeeResponseList result = employeeClient.getAllEmployees();
+        EmployeeResponseList result = employeeClient.getAllEmployees(null).getBody();
 
         assertNotNull(result);
         assertEquals(2, result.getData().size());
-        verify(employeeClient, times(1)).getAllEmployees();
+        verify(employeeClient, times(1)).getAllEmployees(any());
     }
 
     @Test
     void testGetAllEmployees_EmptyList() {
-        when(employeeClient.getAllEmployees()).thenReturn(new EmployeeResponseList("Success", List.of()));
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of())));
 
-        EmployeeResponseList result = employeeClient.getAllEmployees();
+        EmployeeResponseList result = employeeClient.getAllEmployees(null).getBody();
 
         assertNotNull(result);
         assertTrue(result.getData().isEmpty());
-        verify(employeeClient, times(1)).getAllEmployees();
+        verify(employeeClient, times(1)).getAllEmployees(any());
     }
 
     @Test
@@ -0,0 +1,146 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.config.EmployeeDirectoryProperties;
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeDirectoryTest {
+
+    private final Employee alice = new Employee("1", "Alice", 8000, 30, "Manager", "alice@company.com");
+    private final Employee bob = new Employee("2", "Bob", 5000, 28, "Developer", "bob@company.com");
+
+    private MutableClock clock;
+    private EmployeeDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeDirectoryProperties properties = new EmployeeDirectoryProperties();
+        properties.setMaxAge(Duration.ofSeconds(30));
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        directory = new EmployeeDirectory(properties, clock);
+    }
+
+    @Test
+    void uniqueName_KnownFromRoster() {
+        directory.recordRoster(List.of(alice, bob), directory.checkpoint());
+
+        assertEquals(Optional.of("Bob"), directory.uniqueName("2"));
+    }
+
+    @Test
+    void uniqueName_EmptyWithoutRoster() {
+        directory.record(alice);
+
+        assertEquals(Optional.empty(), directory.uniqueName("1"));
+    }
+
+    @Test
+    void uniqueName_EmptyWhenNameSharedIgnoringCase() {
+        Employee otherAlice = new Employee("3", "ALICE", 5000, 28, "Developer", "alice2@company.com");
+        directory.recordRoster(List.of(alice, bob), directory.checkpoint());
+        directory.record(otherAlice);
+
+        assertEquals(Optional.empty(), directory.uniqueName("1"));
+        assertEquals(Optional.empty(), directory.uniqueName("3"));
+    }
+
+    @Test
+    void uniqueName_EmptyWhenNameSharedAsUpstreamComparesIt() {
+        //upper-case "ΟΔΥΣΣΕΑΣ" lower-cases with a final "ς", and the Kelvin sign lower-cases to "k", but
+        //equalsIgnoreCase, and so the upstream delete by name, matches "οδυσσεασ" and "karl" against them.
+        Employee odysseas = new Employee("3", "\u039F\u0394\u03A5\u03A3\u03A3\u0395\u0391\u03A3", 5000, 28, "Developer", "o1@company.com");
+        Employee odysseasSigma = new Employee("4", "\u03BF\u03B4\u03C5\u03C3\u03C3\u03B5\u03B1\u03C3", 5000, 28, "Developer", "o2@company.com");
+        Employee kelvin = new Employee("5", "\u212Aarl", 5000, 28, "Developer", "k1@company.com");
+        Employee karl = new Employee("6", "karl", 5000, 28, "Developer", "k2@company.com");
+        directory.recordRoster(List.of(odysseas, odysseasSigma, kelvin, karl, alice), directory.checkpoint());
+
+        assertEquals(Optional.empty(), directory.uniqueName("3"));
+        assertEquals(Optional.empty(), directory.uniqueName("4"));
+        assertEquals(Optional.empty(), directory.uniqueName("5"));
+        assertEquals(Optional.empty(), directory.uniqueName("6"));
+        assertEquals(Optional.of("Alice"), directory.uniqueName("1"));
+    }
+
+    @Test
+    void fold_AgreesWithEqualsIgnoreCase() {
+        List<String> names = List.of(
+                "\u039F\u0394\u03A5\u03A3\u03A3\u0395\u0391\u03A3",
+                "\u03BF\u03B4\u03C5\u03C3\u03C3\u03B5\u03B1\u03C3",
+                "\u03BF\u03B4\u03C5\u03C3\u03C3\u03B5\u03B1\u03C2",
+                "\u212Aarl", "karl", "KARL", "\u0130lker", "ilker", "\u0131lker", "Ilker");
+        for (String first : names) {
+            for (String second : names) {
+                assertEquals(first.equalsIgnoreCase(second),
+                        EmployeeDirectory.fold(first).equals(EmployeeDirectory.fold(second)), first + " / " + second);
+            }
+        }
+    }
+
+    @Test
+    void uniqueName_EmptyOnceRosterIsTooOld() {
+        directory.recordRoster(List.of(alice, bob), directory.checkpoint());
+        clock.advance(Duration.ofSeconds(30));
+
+        assertEquals(Optional.empty(), directory.uniqueName("1"));
+    }
+
+    @Test
+    void forget_FreesNameForRemainingEmployee() {
+        Employee otherAlice = new Employee("3", "Alice", 5000, 28, "Developer", "alice2@company.com");
+        directory.recordRoster(List.of(alice, otherAlice), directory.checkpoint());
+
+        directory.forget("1");
+
+        assertEquals(Optional.empty(), directory.uniqueName("1"));
+        assertEquals(Optional.of("Alice"), directory.uniqueName("3"));
+    }
+
+    @Test
+    void recordRoster_ReappliesDeletesMadeDuringFetch() {
+        long checkpoint = directory.checkpoint();
+        directory.forget("1");
+
+        directory.recordRoster(List.of(alice, bob), checkpoint);
+
+        assertEquals(Optional.empty(), directory.uniqueName("1"));
+        assertEquals(Optional.of("Bob"), directory.uniqueName("2"));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
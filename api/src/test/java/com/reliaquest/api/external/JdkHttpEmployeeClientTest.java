@@ -0,0 +1,139 @@
+package com.reliaquest.api.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.models.DeleteEmployeeDTO;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.models.EmployeeResponseList;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdkHttpEmployeeClientTest {
+
+    private static final String ROSTER_TAG = "\"v1\"";
+    private static final Employee ALICE = new Employee("1", "Alice", 8000, 30, "Manager", "alice@company.com");
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectMapper SMILE = new ObjectMapper(new SmileFactory());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<String> lastRequestBody = new AtomicReference<>();
+    private HttpServer server;
+    private JdkHttpEmployeeClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            lastRequestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            if (path.endsWith("/employee") && exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().add("ETag", ROSTER_TAG);
+                if (ROSTER_TAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    respond(exchange, 304, "");
+                    return;
+                }
+                respond(exchange, 200, "{\"status\":\"Success\",\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\","
+                        + "\"employee_salary\":8000,\"employee_age\":30,\"employee_title\":\"Manager\","
+                        + "\"employee_email\":\"alice@company.com\"}]}");
+            } else if (path.endsWith("/employee") && exchange.getRequestMethod().equals("DELETE")) {
+                respond(exchange, 200, "{\"data\":true,\"status\":\"Successfully processed request.\"}");
+            } else if (path.endsWith("/employee/1")) {
+                String accept = exchange.getRequestHeaders().getFirst("Accept");
+                if (accept.startsWith("application/x-jackson-smile")) {
+                    respond(exchange, 200, "application/x-jackson-smile", SMILE.writeValueAsBytes(new EmployeeResponse("Success", ALICE)));
+                } else {
+                    respond(exchange, 200, "application/json", JSON.writeValueAsBytes(new EmployeeResponse("Success", ALICE)));
+                }
+            } else if (path.endsWith("/busy")) {
+                respond(exchange, 429, "");
+            } else {
+                respond(exchange, 404, "");
+            }
+        });
+        server.start();
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api/v1";
+        client = new JdkHttpEmployeeClient(baseUrl, Duration.ofSeconds(2), Duration.ofSeconds(5), new ObjectMapper(), meterRegistry, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void getAllEmployees_DecodesRoster() {
+        EmployeeResponseList response = client.getAllEmployees(null).join().roster();
+
+        assertEquals(1, response.getData().size());
+        assertEquals("Alice", response.getData().get(0).getName());
+        assertEquals(1.0, meterRegistry.get("employee.client.http.responses").tag("status", "200").counter().count());
+    }
+
+    @Test
+    void getAllEmployees_RevalidatesWithETag() {
+        RosterRevision first = client.getAllEmployees(null).join();
+        RosterRevision second = client.getAllEmployees(first.eTag()).join();
+
+        assertEquals(ROSTER_TAG, first.eTag());
+        assertFalse(first.notModified());
+        assertTrue(second.notModified());
+        assertNull(second.roster());
+    }
+
+    @Test
+    void deleteEmployeeById_SendsJsonBodyAndReturnsRawResponse() {
+        String response = client.deleteEmployeeById(new DeleteEmployeeDTO("Alice")).join();
+
+        assertTrue(response.contains("\"data\":true"));
+        assertTrue(lastRequestBody.get().contains("Alice"));
+    }
+
+    @Test
+    void getEmployeeById_DecodesSmileWhenPreferred() {
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api/v1";
+        JdkHttpEmployeeClient smileClient = new JdkHttpEmployeeClient(baseUrl, Duration.ofSeconds(2), Duration.ofSeconds(5), new ObjectMapper(), meterRegistry, true);
+
+        assertEquals(ALICE, smileClient.getEmployeeById("1").join().getData());
+        assertEquals(ALICE, client.getEmployeeById("1").join().getData());
+    }
+
+    @Test
+    void getEmployeeById_NotFoundBecomesFeignException() {
+        CompletionException exception = assertThrows(CompletionException.class, () -> client.getEmployeeById("missing").join());
+        assertInstanceOf(FeignException.NotFound.class, exception.getCause());
+    }
+
+    @Test
+    void getEmployeeById_TooManyRequestsBecomesFeignException() {
+        CompletionException exception = assertThrows(CompletionException.class, () -> client.getEmployeeById("busy").join());
+        assertInstanceOf(FeignException.TooManyRequests.class, exception.getCause());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.external;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void execute_ConcurrentCallersShareOneCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("all", () -> {
+                    upstreamCalls.incrementAndGet();
+                    await(release);
+                    return "roster";
+                })));
+            }
+            waitForCallers(callers);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("roster", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, upstreamCalls.get());
+            DistributionSummary summary = meterRegistry.get("employee.client.flight.callers").summary();
+            assertEquals(1, summary.count());
+            assertEquals(callers, summary.totalAmount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_FailureSharedThenNextCallRetries() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("all", () -> {
+                await(release);
+                throw new IllegalStateException("upstream down");
+            }));
+            Future<String> follower = executor.submit(() -> singleFlight.execute("all", () -> "unused"));
+            waitForCallers(2);
+            release.countDown();
+
+            Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+            assertInstanceOf(IllegalStateException.class, followerFailure.getCause());
+            assertEquals("fresh", singleFlight.execute("all", () -> "fresh"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_DifferentKeysDoNotShare() {
+        assertEquals("1", singleFlight.execute("1", () -> "1"));
+        assertEquals("2", singleFlight.execute("2", () -> "2"));
+    }
+
+    /*
+     * Followers only register on the flight once they reach it, so give every submitted caller time to get there.
+     */
+    private void waitForCallers(int callers) throws InterruptedException {
+        Thread.sleep(200L + callers * 10L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.external;
+
+import com.reliaquest.api.config.EmployeeRateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the components that block on the request path on virtual threads and fails if any of them pins its carrier,
+ * e.g. by blocking inside a {@code synchronized} block. Only meaningful on JDK 21+.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    @Test
+    void singleFlightAndRateLimiter_DoNotPinCarrierThreads() throws Exception {
+        AtomicInteger pinnedEvents = new AtomicInteger();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            recording.startAsync();
+
+            SingleFlight<String, String> singleFlight = new SingleFlight<>("pinning", new SimpleMeterRegistry());
+            EmployeeRateLimitProperties properties = new EmployeeRateLimitProperties();
+            properties.setInitialLimit(1000);
+            AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(properties, new SimpleMeterRegistry());
+
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < 500; i++) {
+                    results.add(executor.submit(() -> {
+                        AdaptiveRateLimiter.Permit permit = rateLimiter.acquire();
+                        String result = singleFlight.execute("all", () -> {
+                            sleep();
+                            return "roster";
+                        });
+                        permit.accepted();
+                        return result;
+                    }));
+                }
+                for (Future<String> result : results) {
+                    assertEquals("roster", result.get(10, TimeUnit.SECONDS));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            Thread.sleep(500);
+        }
+        assertEquals(0, pinnedEvents.get());
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeePayloadLogProperties;
+import com.reliaquest.api.models.Employee;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.*;
+
+class PayloadLogPolicyTest {
+
+    private final Employee employee = new Employee("1", "John Doe", 50000, 30, "Developer", "john.doe@example.com");
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void of_LogsSizesAndIdsByDefault() {
+        PayloadLogPolicy policy = new PayloadLogPolicy(new EmployeePayloadLogProperties());
+
+        assertEquals("2 items", String.valueOf(policy.of(List.of(employee, employee))));
+        assertEquals("1", policy.of(employee));
+        assertNull(policy.of((Employee) null));
+    }
+
+    @Test
+    void of_LogsFullBodiesWhenEverythingIsSampled() {
+        EmployeePayloadLogProperties properties = new EmployeePayloadLogProperties();
+        properties.setSampleRate(1.0);
+        PayloadLogPolicy policy = new PayloadLogPolicy(properties);
+        List<Employee> employees = List.of(employee);
+
+        assertSame(employees, policy.of(employees));
+        assertSame(employee, policy.of(employee));
+    }
+
+    @Test
+    void of_LogsFullBodiesForRequestsWithDebugHeader() {
+        PayloadLogPolicy policy = new PayloadLogPolicy(new EmployeePayloadLogProperties());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Debug-Payload", "true");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertSame(employee, policy.of(employee));
+    }
+
+    @Test
+    void of_IgnoresDebugHeaderWhenTurnedOff() {
+        EmployeePayloadLogProperties properties = new EmployeePayloadLogProperties();
+        properties.setDebugHeader("");
+        PayloadLogPolicy policy = new PayloadLogPolicy(properties);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Debug-Payload", "true");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertEquals("1", policy.of(employee));
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.exception.CustomError;
+import com.reliaquest.api.exception.CustomException;
+import com.reliaquest.api.models.Employee;
+import feign.FeignException;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncEmployeeServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeRosterCache employeeRosterCache;
+
+    private ExecutorService upstreamExecutor;
+    private ScheduledExecutorService retryScheduler;
+    private AsyncEmployeeService asyncEmployeeService;
+
+    private final List<Employee> employeeList = List.of(
+            new Employee("1", "Alice", 8000, 30, "Manager", "alice@company.com"));
+
+    @BeforeEach
+    void setUp() {
+        upstreamExecutor = Executors.newFixedThreadPool(2);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor();
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .retryExceptions(FeignException.TooManyRequests.class)
+                .build());
+        asyncEmployeeService = new AsyncEmployeeService(employeeService, employeeRosterCache, upstreamExecutor,
+                retryScheduler, retryRegistry, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstreamExecutor.shutdownNow();
+        retryScheduler.shutdownNow();
+    }
+
+    @Test
+    void getAllEmployees_ServedInlineFromSnapshot() {
+        when(employeeRosterCache.isServableWithoutFetch()).thenReturn(true);
+        when(employeeService.fetchAllEmployees()).thenReturn(employeeList);
+
+        CompletableFuture<List<Employee>> result = asyncEmployeeService.getAllEmployees();
+
+        assertTrue(result.isDone());
+        assertEquals(employeeList, result.join());
+    }
+
+    @Test
+    void getAllEmployees_RetriesThrottledFetchOnTimer() throws Exception {
+        when(employeeRosterCache.isServableWithoutFetch()).thenReturn(false);
+        when(employeeService.fetchAllEmployees())
+                .thenThrow(mock(FeignException.TooManyRequests.class))
+                .thenThrow(mock(FeignException.TooManyRequests.class))
+                .thenReturn(employeeList);
+
+        List<Employee> result = asyncEmployeeService.getAllEmployees().get(5, TimeUnit.SECONDS);
+
+        assertEquals(employeeList, result);
+        verify(employeeService, times(3)).fetchAllEmployees();
+    }
+
+    @Test
+    void getEmployeeById_ExhaustedRetriesMapToRetryError() {
+        when(employeeService.fetchEmployeeById("1")).thenThrow(mock(FeignException.TooManyRequests.class));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> asyncEmployeeService.getEmployeeById("1").get(5, TimeUnit.SECONDS));
+
+        CustomException cause = assertInstanceOf(CustomException.class, exception.getCause());
+        assertEquals(CustomError.RETRY_ERROR, cause.getError());
+        verify(employeeService, times(3)).fetchEmployeeById("1");
+    }
+
+    @Test
+    void getEmployeeById_NonRetryableFailurePassesThrough() {
+        when(employeeService.fetchEmployeeById("2")).thenThrow(new CustomException(CustomError.NO_DATA_FOUND));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> asyncEmployeeService.getEmployeeById("2").get(5, TimeUnit.SECONDS));
+
+        CustomException cause = assertInstanceOf(CustomException.class, exception.getCause());
+        assertEquals(CustomError.NO_DATA_FOUND, cause.getError());
+        verify(employeeService, times(1)).fetchEmployeeById("2");
+    }
+}
@@ -1,20 +1,36 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.EmployeeBatchProperties;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.EmployeeDirectoryProperties;
+import com.reliaquest.api.config.EmployeeMultiGetProperties;
+import com.reliaquest.api.config.EmployeePayloadLogProperties;
+import com.reliaquest.api.config.EmployeeSearchProperties;
 import com.reliaquest.api.exception.CustomError;
 import com.reliaquest.api.exception.CustomException;
 import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.config.EmployeeRateLimitProperties;
+import com.reliaquest.api.external.AdaptiveRateLimiter;
 import com.reliaquest.api.external.EmployeeClient;
+import com.reliaquest.api.external.EmployeeDirectory;
+import com.reliaquest.api.external.FeignAsyncEmployeeClient;
+import com.reliaquest.api.external.EmployeeGateway;
+import com.reliaquest.api.logging.PayloadLogPolicy;
 import com.reliaquest.api.models.*;
 import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 import java.util.*;
 
@@ -27,13 +43,16 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeClient employeeClient;
 
-    @InjectMocks
     private EmployeeService employeeService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private List<Employee> employeeList;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeService = employeeService(new EmployeeCacheProperties());
         employeeList = List.of(
                 new Employee("1", "Alice", 8000, 30, "Manager", "alice@company.com"),
                 new Employee("2", "Bob", 5000, 28, "Developer", "bob@company.com"),
@@ -44,17 +63,17 @@ class EmployeeServiceTest {
     @Test
     void getAllEmployees_Success() {
         EmployeeResponseList response = new EmployeeResponseList("Success", employeeList);
-        when(employeeClient.getAllEmployees()).thenReturn(response);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(response));
 
         List<Employee> result = employeeService.getAllEmployees();
 
         assertEquals(3, result.size());
-        verify(employeeClient, times(1)).getAllEmployees();
+        verify(employeeClient, times(1)).getAllEmployees(any());
     }
 
     @Test
     void getAllEmployees_NoDataFound() {
-        when(employeeClient.getAllEmployees()).thenReturn(new EmployeeResponseList("Success", List.of()));
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", List.of())));
 
         CustomException exception = assertThrows(CustomException.class, employeeService::getAllEmployees);
         assertEquals(CustomError.NO_DATA_FOUND, exception.getError());
@@ -63,7 +82,7 @@ class EmployeeServiceTest {
     @Test
     void getAllEmployeesBySearchName_Success() {
         EmployeeResponseList response = new EmployeeResponseList("Success", employeeList);
-        when(employeeClient.getAllEmployees()).thenReturn(response);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(response));
 
         List<Employee> result = employeeService.getAllEmployeesBySearchName("Alice");
 
@@ -87,10 +106,74 @@ class EmployeeServiceTest {
         assertEquals(CustomError.ID_CAN_NOT_BE_NULL, exception.getError());
     }
 
+    @Test
+    void getEmployeeById_TimesUpstreamCallsByStatus() {
+        EmployeeCacheProperties disabled = new EmployeeCacheProperties();
+        disabled.setEnabled(false);
+        EmployeeService uncachedService = employeeService(disabled);
+        FeignException.NotFound notFound = mock(FeignException.NotFound.class);
+        when(notFound.status()).thenReturn(404);
+        when(employeeClient.getEmployeeById("1")).thenReturn(new EmployeeResponse("Success", employeeList.get(0)));
+        when(employeeClient.getEmployeeById("9")).thenThrow(notFound);
+
+        uncachedService.getEmployeeById("1");
+        assertThrows(FeignException.NotFound.class, () -> uncachedService.getEmployeeById("9"));
+
+        assertEquals(1, meterRegistry.get("employee.upstream.requests")
+                .tags("operation", "getEmployeeById", "status", "ok").timer().count());
+        assertEquals(1, meterRegistry.get("employee.upstream.requests")
+                .tags("operation", "getEmployeeById", "status", "404").timer().count());
+    }
+
+    @Test
+    void fallbackGetEmployeeById_CountsFallback() {
+        FeignException.TooManyRequests tooManyRequests = mock(FeignException.TooManyRequests.class);
+
+        assertThrows(CustomException.class, () -> employeeService.fallbackGetEmployeeById(tooManyRequests));
+
+        assertEquals(1, meterRegistry.get("employee.retry.fallbacks")
+                .tag("method", "fallbackGetEmployeeById").counter().count());
+    }
+
+    @Test
+    void getEmployeesByIds_FromSingleRosterFetch() {
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", employeeList)));
+
+        EmployeeLookup lookup = employeeService.getEmployeesByIds(List.of("3", "9", "1", "3"));
+
+        assertEquals(List.of(employeeList.get(2), employeeList.get(0)), lookup.getData());
+        assertEquals(List.of("9"), lookup.getMissingIds());
+        verify(employeeClient, times(1)).getAllEmployees(any());
+        verify(employeeClient, never()).getEmployeeById(any());
+    }
+
+    @Test
+    void getEmployeesByIds_FewIdsFanOutWithoutCache() {
+        EmployeeCacheProperties disabled = new EmployeeCacheProperties();
+        disabled.setEnabled(false);
+        EmployeeService uncachedService = employeeService(disabled);
+        when(employeeClient.getEmployeeById("2")).thenReturn(new EmployeeResponse("Success", employeeList.get(1)));
+        when(employeeClient.getEmployeeById("9")).thenThrow(FeignException.NotFound.class);
+
+        EmployeeLookup lookup = uncachedService.getEmployeesByIds(List.of("2", "9"));
+
+        assertEquals(List.of(employeeList.get(1)), lookup.getData());
+        assertEquals(List.of("9"), lookup.getMissingIds());
+        verify(employeeClient, never()).getAllEmployees(any());
+    }
+
+    @Test
+    void getEmployeesByIds_BlankId() {
+        List<String> ids = new ArrayList<>();
+        ids.add(null);
+        ValidationException exception = assertThrows(ValidationException.class, () -> employeeService.getEmployeesByIds(ids));
+        assertEquals(CustomError.ID_CAN_NOT_BE_NULL, exception.getError());
+    }
+
     @Test
     void getEmployeeWithHighestSalary() {
         EmployeeResponseList response = new EmployeeResponseList("Success", employeeList);
-        when(employeeClient.getAllEmployees()).thenReturn(response);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(response));
 
         int highestSalary = employeeService.getEmployeeWithHighestSalary();
 
@@ -100,7 +183,7 @@ class EmployeeServiceTest {
     @Test
     void getTopTenHighestEarningEmployees() {
         EmployeeResponseList response = new EmployeeResponseList("Success", employeeList);
-        when(employeeClient.getAllEmployees()).thenReturn(response);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(response));
 
         List<String> topEarners = employeeService.getTopTenHighestEarningEmployees();
 
@@ -108,19 +191,120 @@ class EmployeeServiceTest {
         assertEquals("Alice", topEarners.get(0));
     }
 
+    @Test
+    void getTopHighestEarningEmployees_CustomLimit() {
+        EmployeeResponseList response = new EmployeeResponseList("Success", employeeList);
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(response));
+
+        List<String> topEarners = employeeService.getTopHighestEarningEmployees(2);
+
+        assertEquals(List.of("Alice", "Charlie"), topEarners);
+    }
+
+    @Test
+    void getTopHighestEarningEmployees_InvalidLimit() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> employeeService.getTopHighestEarningEmployees(0));
+        assertEquals(CustomError.INVALID_LIMIT, exception.getError());
+    }
+
+    @Test
+    void getEmployeePage_PassesCursorThrough() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(EmployeeClient.NEXT_CURSOR_HEADER, "next");
+        when(employeeClient.getEmployeePage(2, "first"))
+                .thenReturn(new ResponseEntity<>(new EmployeeResponseList("Success", employeeList.subList(0, 2)), headers, HttpStatus.OK));
+
+        EmployeePage page = employeeService.getEmployeePage(2, "first");
+
+        assertEquals(2, page.getData().size());
+        assertEquals("next", page.getNextCursor());
+    }
+
+    @Test
+    void getEmployeePage_ExpiredCursor() {
+        when(employeeClient.getEmployeePage(2, "old")).thenThrow(FeignException.Gone.class);
+
+        CustomException exception = assertThrows(CustomException.class, () -> employeeService.getEmployeePage(2, "old"));
+        assertEquals(CustomError.INVALID_CURSOR, exception.getError());
+    }
+
+    @Test
+    void getEmployeePage_InvalidLimit() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> employeeService.getEmployeePage(0, null));
+        assertEquals(CustomError.INVALID_LIMIT, exception.getError());
+    }
+
+    @Test
+    void getEmployeePage_LimitAboveServerPageCap() {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> employeeService.getEmployeePage(EmployeeService.MAX_PAGE_LIMIT + 1, null));
+        assertEquals(CustomError.INVALID_LIMIT, exception.getError());
+        verifyNoInteractions(employeeClient);
+    }
+
     @Test
     void createEmployee_Success() {
-        Map<String, Object> employeeMap = Map.of("name", "David", "salary", 6000, "age", 32, "title", "Engineer", "email", "david@company.com");
+        CreateEmployeeInput employeeInput = new CreateEmployeeInput("David", 6000, 32, "Engineer");
         CreateEmployeeDTO createEmployeeDTO = new CreateEmployeeDTO("David", 6000, 32, "Engineer");
         EmployeeResponse employeeResponse = new EmployeeResponse("Success", new Employee("4", "David", 6000, 32, "Engineer", "david@company.com"));
 
         when(employeeClient.createEmployee(createEmployeeDTO)).thenReturn(employeeResponse);
 
-        Employee result = employeeService.createEmployee(employeeMap);
+        Employee result = employeeService.createEmployee(employeeInput);
 
         assertEquals("David", result.getName());
     }
 
+    @Test
+    void createEmployees_ReportsEachItem() {
+        List<CreateEmployeeInput> inputs = new ArrayList<>();
+        inputs.add(new CreateEmployeeInput("David", 6000, 32, "Engineer"));
+        inputs.add(new CreateEmployeeInput("Eve", 6000, 12, "Intern"));
+        inputs.add(new CreateEmployeeInput("Frank", 7000, 40, "Architect"));
+        inputs.add(null);
+        Employee david = new Employee("4", "David", 6000, 32, "Engineer", "david@company.com");
+        Employee frank = new Employee("5", "Frank", 7000, 40, "Architect", "frank@company.com");
+        when(employeeClient.createEmployees(any(CreateEmployeesDTO.class)))
+                .thenReturn(new EmployeeResponseList("Success", List.of(david, frank)));
+
+        List<BatchItemResult> results = employeeService.createEmployees(inputs);
+
+        assertEquals(BatchItemResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(david, results.get(0).getEmployee());
+        assertEquals(CustomError.MINIMUM_AGE_ERROR.getCode(), results.get(1).getError());
+        assertEquals(frank, results.get(2).getEmployee());
+        assertEquals(BatchItemResult.Status.INVALID, results.get(3).getStatus());
+        assertEquals(4, results.get(3).getErrors().size());
+        verify(employeeClient, times(1)).createEmployees(any(CreateEmployeesDTO.class));
+    }
+
+    @Test
+    void createEmployees_FailedChunkOnlyAffectsItsItems() {
+        List<CreateEmployeeInput> inputs = List.of(
+                new CreateEmployeeInput("David", 6000, 32, "Engineer"),
+                new CreateEmployeeInput("Frank", 7000, 40, "Architect"),
+                new CreateEmployeeInput("Grace", 9000, 45, "Director")
+        );
+        Employee david = new Employee("4", "David", 6000, 32, "Engineer", "david@company.com");
+        Employee frank = new Employee("5", "Frank", 7000, 40, "Architect", "frank@company.com");
+        when(employeeClient.createEmployees(any(CreateEmployeesDTO.class)))
+                .thenReturn(new EmployeeResponseList("Success", List.of(david, frank)))
+                .thenThrow(FeignException.InternalServerError.class);
+
+        List<BatchItemResult> results = employeeService.createEmployees(inputs);
+
+        assertEquals(BatchItemResult.Status.CREATED, results.get(1).getStatus());
+        assertEquals(BatchItemResult.Status.FAILED, results.get(2).getStatus());
+        assertEquals(HttpStatus.MULTI_STATUS, BatchItemResult.statusOf(results));
+        verify(employeeClient, times(2)).createEmployees(any(CreateEmployeesDTO.class));
+    }
+
+    @Test
+    void createEmployees_EmptyBatch() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> employeeService.createEmployees(List.of()));
+        assertEquals(CustomError.INVALID_BATCH_SIZE, exception.getError());
+    }
+
     @Test
     void deleteEmployeeById_Success() {
         Employee employee = new Employee("1", "Alice", 8000, 30, "Manager", "alice@company.com");
@@ -132,9 +316,53 @@ class EmployeeServiceTest {
         assertEquals("Alice", deletedEmployeeName);
     }
 
+    @Test
+    void deleteEmployeeById_NameKnownFromRoster_SingleUpstreamCall() {
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", employeeList)));
+        when(employeeClient.deleteEmployeeById(new DeleteEmployeeDTO("Bob"))).thenReturn("Success");
+        employeeService.getAllEmployees();
+
+        String deletedEmployeeName = employeeService.deleteEmployeeById("2");
+
+        assertEquals("Bob", deletedEmployeeName);
+        verify(employeeClient, never()).getEmployeeById(any());
+    }
+
+    @Test
+    void deleteEmployeeById_AmbiguousName_ResolvesByIdFirst() {
+        List<Employee> roster = List.of(
+                new Employee("1", "Alice", 8000, 30, "Manager", "alice@company.com"),
+                new Employee("2", "ALICE", 5000, 28, "Developer", "alice2@company.com")
+        );
+        when(employeeClient.getAllEmployees(any())).thenReturn(ResponseEntity.ok(new EmployeeResponseList("Success", roster)));
+        when(employeeClient.getEmployeeById("2")).thenReturn(new EmployeeResponse("Success", roster.get(1)));
+        when(employeeClient.deleteEmployeeById(any(DeleteEmployeeDTO.class))).thenReturn("Success");
+        employeeService.getAllEmployees();
+
+        employeeService.deleteEmployeeById("2");
+
+        verify(employeeClient, times(1)).getEmployeeById("2");
+    }
+
     @Test
     void deleteEmployeeById_NullId() {
         ValidationException exception = assertThrows(ValidationException.class, () -> employeeService.deleteEmployeeById(null));
         assertEquals(CustomError.ID_CAN_NOT_BE_NULL, exception.getError());
     }
+
+    private EmployeeService employeeService(EmployeeCacheProperties employeeCacheProperties) {
+        EmployeeDirectory employeeDirectory = new EmployeeDirectory(new EmployeeDirectoryProperties());
+        EmployeeGateway employeeGateway = new EmployeeGateway(new FeignAsyncEmployeeClient(employeeClient), disabledRateLimiter(), employeeDirectory, meterRegistry);
+        EmployeeRosterCache employeeRosterCache = new EmployeeRosterCache(employeeGateway, employeeCacheProperties, new EmployeeSearchProperties(), meterRegistry);
+        EmployeeBatchProperties employeeBatchProperties = new EmployeeBatchProperties();
+        employeeBatchProperties.setChunkSize(2);
+        return new EmployeeService(employeeGateway, employeeRosterCache, employeeDirectory, employeeBatchProperties, new EmployeeMultiGetProperties(), meterRegistry,
+                new PayloadLogPolicy(new EmployeePayloadLogProperties()));
+    }
+
+    private static AdaptiveRateLimiter disabledRateLimiter() {
+        EmployeeRateLimitProperties properties = new EmployeeRateLimitProperties();
+        properties.setEnabled(false);
+        return new AdaptiveRateLimiter(properties, new SimpleMeterRegistry());
+    }
 }
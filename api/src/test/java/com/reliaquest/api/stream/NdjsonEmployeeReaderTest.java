@@ -0,0 +1,37 @@
+package com.reliaquest.api.stream;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonEmployeeReaderTest {
+
+    @Test
+    void forEach_ReadsOneEmployeePerLine() throws IOException {
+        String body = """
+                {"id":"1","employee_name":"Alice","employee_salary":8000,"employee_age":30,"employee_title":"Manager","employee_email":"alice@company.com"}
+                {"id":"2","employee_name":"Bob","employee_salary":5000,"employee_age":28,"employee_title":"Developer","employee_email":"bob@company.com"}
+                """;
+        List<Employee> employees = new ArrayList<>();
+
+        int count = NdjsonEmployeeReader.forEach(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), employees::add);
+
+        assertEquals(2, count);
+        assertEquals("Alice", employees.get(0).getName());
+        assertEquals(5000, employees.get(1).getSalary());
+    }
+
+    @Test
+    void forEach_EmptyBody() throws IOException {
+        int count = NdjsonEmployeeReader.forEach(new ByteArrayInputStream(new byte[0]), employee -> fail());
+
+        assertEquals(0, count);
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterStreamReaderTest {
+
+    private static final String ROSTER = """
+            {"data":[
+              {"id":"1","employee_name":"Alice","employee_salary":8000,"employee_age":30,"employee_title":"Manager","employee_email":"alice@company.com"},
+              {"id":"2","employee_name":"Bob","employee_salary":5000,"employee_age":28,"employee_title":"Developer","employee_email":"bob@company.com"},
+              {"id":"3","employee_name":"Charlie","employee_salary":7000,"employee_age":35,"employee_title":"Accountant","employee_email":"charlie@company.com"},
+              {"id":"4","employee_name":"Dana","employee_salary":7000,"employee_age":41,"employee_title":"Analyst","employee_email":"dana@company.com"},
+              {"id":"5","employee_name":"Eve","employee_salary":null,"employee_age":22,"employee_title":"Intern","employee_email":"eve@company.com"}
+            ],"status":"Successfully processed request."}
+            """;
+
+    @Test
+    void fold_HighestSalary() throws IOException {
+        HighestSalaryFold fold = RosterStreamReader.fold(body(ROSTER), new HighestSalaryFold());
+
+        assertEquals(5, fold.records());
+        assertEquals(OptionalInt.of(8000), fold.highestSalary());
+    }
+
+    @Test
+    void fold_TopEarnersKeepRosterOrderOnTies() throws IOException {
+        TopEarnersFold fold = RosterStreamReader.fold(body(ROSTER), new TopEarnersFold(3));
+
+        assertEquals(List.of("Alice", "Charlie", "Dana"), fold.names());
+    }
+
+    @Test
+    void fold_TopEarnersLimitLargerThanRoster() throws IOException {
+        TopEarnersFold fold = RosterStreamReader.fold(body(ROSTER), new TopEarnersFold(10));
+
+        assertEquals(List.of("Alice", "Charlie", "Dana", "Bob"), fold.names());
+    }
+
+    @Test
+    void fold_SkipsUnknownFieldsAndNestedValues() throws IOException {
+        String roster = """
+                {"status":"ok","meta":{"page":[1,2]},"data":[{"extra":{"a":[1]},"employee_salary":10,"employee_name":"Zed"}]}
+                """;
+        TopEarnersFold fold = RosterStreamReader.fold(body(roster), new TopEarnersFold(1));
+
+        assertEquals(List.of("Zed"), fold.names());
+    }
+
+    @Test
+    void fold_NullDataIsEmpty() throws IOException {
+        HighestSalaryFold fold = RosterStreamReader.fold(body("{\"data\":null}"), new HighestSalaryFold());
+
+        assertEquals(0, fold.records());
+        assertEquals(OptionalInt.empty(), fold.highestSalary());
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
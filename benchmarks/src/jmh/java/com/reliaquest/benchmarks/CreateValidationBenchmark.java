@@ -0,0 +1,73 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.models.CreateEmployeeDTO;
+import com.reliaquest.api.models.CreateEmployeeInput;
+import com.reliaquest.api.validator.CreateEmployeeInputValidation;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Binding and validating a create body from its request bytes: into a {@code Map} checked by
+ * {@link CreateEmployeeInputValidation#ValidateInput}, as the controller used to, against the typed
+ * {@link CreateEmployeeInput} checked by {@link CreateEmployeeInput#validated()}. Each runs on an accepted body and on
+ * one with three bad fields, so the rejected path includes every check plus building the {@link ValidationException}.
+ * Run with {@code -PjmhProfilers=gc} to compare allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateValidationBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ObjectReader mapReader = MAPPER.readerFor(new TypeReference<Map<String, Object>>() {});
+    private final ObjectReader typedReader = MAPPER.readerFor(CreateEmployeeInput.class);
+    private final byte[] valid = bytes(
+            "{\"name\":\"Quinn Alvarez\",\"salary\":120000,\"age\":34,\"title\":\"Software Developer\","
+                    + "\"email\":\"quinn@company.com\"}");
+    private final byte[] invalid = bytes("{\"name\":\"\",\"salary\":\"120000\",\"age\":12}");
+
+    @Benchmark
+    public CreateEmployeeDTO mapAccepted() throws IOException {
+        return CreateEmployeeInputValidation.ValidateInput(mapReader.readValue(valid));
+    }
+
+    @Benchmark
+    public Object mapRejected() throws IOException {
+        try {
+            return CreateEmployeeInputValidation.ValidateInput(mapReader.readValue(invalid));
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public CreateEmployeeDTO typedAccepted() throws IOException {
+        return typedReader.<CreateEmployeeInput>readValue(valid).validated();
+    }
+
+    @Benchmark
+    public Object typedRejected() throws IOException {
+        try {
+            return typedReader.<CreateEmployeeInput>readValue(invalid).validated();
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
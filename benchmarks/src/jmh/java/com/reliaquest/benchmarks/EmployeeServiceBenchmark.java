@@ -0,0 +1,158 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.config.EmployeeBatchProperties;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.EmployeeDirectoryProperties;
+import com.reliaquest.api.config.EmployeeMultiGetProperties;
+import com.reliaquest.api.config.EmployeePayloadLogProperties;
+import com.reliaquest.api.config.EmployeeRateLimitProperties;
+import com.reliaquest.api.config.EmployeeSearchProperties;
+import com.reliaquest.api.external.AdaptiveRateLimiter;
+import com.reliaquest.api.external.AsyncEmployeeClient;
+import com.reliaquest.api.external.EmployeeDirectory;
+import com.reliaquest.api.external.EmployeeGateway;
+import com.reliaquest.api.external.RosterRevision;
+import com.reliaquest.api.logging.PayloadLogPolicy;
+import com.reliaquest.api.models.CreateEmployeeDTO;
+import com.reliaquest.api.models.DeleteEmployeeDTO;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.models.EmployeeResponseList;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.stream.RosterFold;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The {@link EmployeeService} aggregations as the controllers call them, answered from a warm roster snapshot, plus the
+ * cost of building that snapshot from a decoded roster. The upstream client is an in-memory stub, so nothing here
+ * touches the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    /* A common surname fragment and a rare full name fragment; both match at every roster size. */
+    @Param({"son", "Quinn Alv"})
+    public String query;
+
+    private EmployeeRosterCache employeeRosterCache;
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        EmployeeResponseList roster = new EmployeeResponseList("Success", Rosters.synthetic(rosterSize));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeRateLimitProperties rateLimitProperties = new EmployeeRateLimitProperties();
+        rateLimitProperties.setEnabled(false);
+        EmployeeDirectory employeeDirectory = new EmployeeDirectory(new EmployeeDirectoryProperties());
+        EmployeeGateway employeeGateway = new EmployeeGateway(
+                new RosterClient(roster),
+                new AdaptiveRateLimiter(rateLimitProperties, meterRegistry),
+                employeeDirectory,
+                meterRegistry);
+        EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+        cacheProperties.setTtl(Duration.ofDays(1));
+        employeeRosterCache = new EmployeeRosterCache(
+                employeeGateway, cacheProperties, new EmployeeSearchProperties(), meterRegistry);
+        employeeService = new EmployeeService(
+                employeeGateway,
+                employeeRosterCache,
+                employeeDirectory,
+                new EmployeeBatchProperties(),
+                new EmployeeMultiGetProperties(),
+                meterRegistry,
+                new PayloadLogPolicy(new EmployeePayloadLogProperties()));
+        employeeRosterCache.snapshot();
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getEmployeeWithHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> topTenEarners() {
+        return employeeService.getTopHighestEarningEmployees(10);
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.getAllEmployeesBySearchName(query);
+    }
+
+    @Benchmark
+    public RosterSnapshot rebuildSnapshot() {
+        employeeRosterCache.invalidate();
+        return employeeRosterCache.snapshot();
+    }
+
+    /*
+     * Serves the same decoded roster on every read; everything else is out of scope for these benchmarks.
+     */
+    private record RosterClient(EmployeeResponseList roster) implements AsyncEmployeeClient {
+
+        @Override
+        public CompletableFuture<RosterRevision> getAllEmployees(String eTag) {
+            return CompletableFuture.completedFuture(RosterRevision.of(roster, null));
+        }
+
+        @Override
+        public <F extends RosterFold> CompletableFuture<F> foldAllEmployees(F fold) {
+            return unsupported();
+        }
+
+        @Override
+        public CompletableFuture<Integer> forEachEmployee(Consumer<Employee> sink) {
+            return unsupported();
+        }
+
+        @Override
+        public CompletableFuture<EmployeePage> getEmployeePage(int limit, String cursor) {
+            return unsupported();
+        }
+
+        @Override
+        public CompletableFuture<EmployeeResponse> getEmployeeById(String id) {
+            return unsupported();
+        }
+
+        @Override
+        public CompletableFuture<EmployeeResponse> createEmployee(CreateEmployeeDTO createEmployeeDTO) {
+            return unsupported();
+        }
+
+        @Override
+        public CompletableFuture<EmployeeResponseList> createEmployees(List<CreateEmployeeDTO> createEmployeeDTOs) {
+            return unsupported();
+        }
+
+        @Override
+        public CompletableFuture<String> deleteEmployeeById(DeleteEmployeeDTO body) {
+            return unsupported();
+        }
+
+        private static <T> CompletableFuture<T> unsupported() {
+            return CompletableFuture.failedFuture(new UnsupportedOperationException());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeJournal;
+import com.reliaquest.server.store.EmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Server startup with persistence on: {@link EmployeeJournal#open} restoring a snapshot of {@code rosterSize}
+ * employees plus a journal tail of {@code journalRecords} single creates and deletes. Every invocation restores a
+ * fresh copy of the same files, since a restore that replays records compacts them into a new snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class JournalRecoveryBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"0", "100000"})
+    public int journalRecords;
+
+    private Path template;
+    private Path directory;
+    private EmployeeJournal journal;
+
+    @Setup(Level.Trial)
+    public void writeTemplate() throws IOException {
+        template = Files.createTempDirectory("employee-journal");
+        List<MockEmployee> employees = Rosters.mockSynthetic(rosterSize + journalRecords / 2);
+        List<MockEmployee> roster = employees.subList(0, rosterSize);
+        try (EmployeeJournal seeded = EmployeeJournal.open(
+                template, EmployeeJournal.FsyncPolicy.NEVER, Duration.ofSeconds(1), Integer.MAX_VALUE)) {
+            seeded.seed(roster);
+            EmployeeStore employeeStore = new EmployeeStore(roster, Duration.ZERO, seeded);
+            /* Alternate creates and deletes, so the tail exercises both record types. */
+            for (int i = 0; i < journalRecords; i++) {
+                if (i % 2 == 0) {
+                    employeeStore.add(employees.get(rosterSize + i / 2));
+                } else {
+                    employeeStore.removeById(roster.get(i / 2).getId());
+                }
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyTemplate() throws IOException {
+        directory = Files.createTempDirectory("employee-journal");
+        try (Stream<Path> files = Files.list(template)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, directory.resolve(file.getFileName()));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<MockEmployee> recover() throws IOException {
+        journal = EmployeeJournal.open(directory, EmployeeJournal.FsyncPolicy.NEVER, Duration.ofSeconds(1), 100000);
+        return journal.recovered().orElseThrow();
+    }
+
+    /* Closing waits for the compacting snapshot a replay starts, which is not part of startup time. */
+    @TearDown(Level.Invocation)
+    public void closeJournal() throws IOException {
+        journal.close();
+        delete(directory);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteTemplate() throws IOException {
+        delete(template);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeResponseList;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson encode followed by decode for the models on both sides of the wire: the api's {@link Employee} and
+ * {@link EmployeeResponseList}, and the server's {@link MockEmployee}. The server only ever writes
+ * {@code MockEmployee}, through its prefix naming strategy, so that one is read back the way the api reads it, as an
+ * {@code Employee}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonRoundTripBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Employee employee;
+    private MockEmployee mockEmployee;
+
+    @Setup
+    public void setUp() {
+        employee = Rosters.synthetic(1).get(0);
+        mockEmployee = Rosters.mockSynthetic(1).get(0);
+    }
+
+    /* Only the list benchmark is sized, so the single-record ones run once. */
+    @State(Scope.Benchmark)
+    public static class Roster {
+
+        @Param({"100", "10000"})
+        public int rosterSize;
+
+        private EmployeeResponseList employees;
+
+        @Setup
+        public void setUp() {
+            employees = new EmployeeResponseList("Success", Rosters.synthetic(rosterSize));
+        }
+    }
+
+    @Benchmark
+    public Employee employee() throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(employee), Employee.class);
+    }
+
+    @Benchmark
+    public Employee mockEmployee() throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(mockEmployee), Employee.class);
+    }
+
+    @Benchmark
+    public EmployeeResponseList employeeResponseList(Roster roster) throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(roster.employees), EmployeeResponseList.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups by id and deletes by name and by id on the server's {@link EmployeeStore}, through
+ * {@link MockEmployeeService}. The delete benchmarks put the employee back after removing it, so the store keeps its
+ * size; the employee then sits at the end of the log, the worst case for a scan. With the id and name indexes the
+ * cost should not grow with the roster size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    private EmployeeStore employeeStore;
+    private MockEmployeeService mockEmployeeService;
+    private UUID middleId;
+    private UUID missingId;
+    private MockEmployee last;
+    private DeleteMockEmployeeInput deleteLast;
+    private DeleteMockEmployeeInput deleteMissing;
+
+    @Setup
+    public void setUp() {
+        List<MockEmployee> roster = Rosters.mockSynthetic(rosterSize);
+        /* No retention, so tombstones left by the delete benchmark are compacted as they pile up. */
+        employeeStore = new EmployeeStore(roster, Duration.ZERO);
+        mockEmployeeService = new MockEmployeeService(new Faker(), employeeStore);
+        middleId = roster.get(rosterSize / 2).getId();
+        missingId = new UUID(0, 0);
+        last = roster.get(rosterSize - 1);
+        deleteLast = deleteInput(last.getName());
+        deleteMissing = deleteInput("Nobody Here");
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findByIdHit() {
+        return mockEmployeeService.findById(middleId);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findByIdMiss() {
+        return mockEmployeeService.findById(missingId);
+    }
+
+    @Benchmark
+    public boolean deleteAndRestore() {
+        boolean deleted = mockEmployeeService.delete(deleteLast);
+        employeeStore.add(last);
+        return deleted;
+    }
+
+    @Benchmark
+    public boolean deleteByIdAndRestore() {
+        boolean deleted = mockEmployeeService.deleteById(last.getId());
+        employeeStore.add(last);
+        return deleted;
+    }
+
+    @Benchmark
+    public boolean deleteMiss() {
+        return mockEmployeeService.delete(deleteMissing);
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
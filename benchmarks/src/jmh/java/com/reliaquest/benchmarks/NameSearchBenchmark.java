@@ -0,0 +1,52 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.TrigramNameIndex;
+import com.reliaquest.api.models.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Substring name search: the previous linear {@code contains} scan against {@link TrigramNameIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rosterSize;
+
+    /* A common surname fragment, a rare full name fragment and a fragment that never matches. */
+    @Param({"son", "Quinn Alv", "Zzyx"})
+    public String query;
+
+    private List<Employee> roster;
+    private TrigramNameIndex index;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.synthetic(rosterSize);
+        index = new TrigramNameIndex(false, false);
+        roster.forEach(index::add);
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        return roster.stream()
+                .filter(employee -> employee.getName().contains(query))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndex() {
+        return index.search(query);
+    }
+}
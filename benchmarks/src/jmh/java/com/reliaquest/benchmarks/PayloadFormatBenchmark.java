@@ -0,0 +1,61 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.models.EmployeeResponseList;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The roster body as JSON against Smile, with the prefixed {@code employee_} field names both formats carry: time to
+ * decode and encode an {@link EmployeeResponseList}, and the payload size, reported as the {@code payloadBytes}
+ * counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int rosterSize;
+
+    @Param({"json", "smile"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private EmployeeResponseList roster;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = "smile".equals(format) ? new ObjectMapper(new SmileFactory()) : new ObjectMapper();
+        roster = new EmployeeResponseList("Success", Rosters.synthetic(rosterSize));
+        body = mapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public EmployeeResponseList decode(Size size) throws IOException {
+        size.payloadBytes = body.length;
+        return mapper.readValue(body, EmployeeResponseList.class);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(roster);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long payloadBytes;
+    }
+}
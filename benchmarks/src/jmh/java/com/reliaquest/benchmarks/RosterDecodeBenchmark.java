@@ -0,0 +1,76 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeResponseList;
+import com.reliaquest.api.stream.HighestSalaryFold;
+import com.reliaquest.api.stream.RosterStreamReader;
+import com.reliaquest.api.stream.TopEarnersFold;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Aggregates over an upstream roster body: decoding the whole {@link EmployeeResponseList} and streaming over the
+ * list, against folding the body with {@link RosterStreamReader}. Run with {@code -PjmhProfilers=gc} for allocation
+ * per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RosterDecodeBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = objectMapper.writeValueAsBytes(new EmployeeResponseList("Success", Rosters.synthetic(rosterSize)));
+    }
+
+    @Benchmark
+    public int decodedHighestSalary() throws IOException {
+        return decode().stream().mapToInt(Employee::getSalary).max().orElse(0);
+    }
+
+    @Benchmark
+    public int streamedHighestSalary() throws IOException {
+        return RosterStreamReader.fold(new ByteArrayInputStream(body), new HighestSalaryFold())
+                .highestSalary()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public List<String> decodedTopTen() throws IOException {
+        return decode().stream()
+                .sorted((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary()))
+                .limit(10)
+                .map(Employee::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> streamedTopTen() throws IOException {
+        return RosterStreamReader.fold(new ByteArrayInputStream(body), new TopEarnersFold(10))
+                .names();
+    }
+
+    private List<Employee> decode() throws IOException {
+        return objectMapper
+                .readValue(new ByteArrayInputStream(body), EmployeeResponseList.class)
+                .getData();
+    }
+}
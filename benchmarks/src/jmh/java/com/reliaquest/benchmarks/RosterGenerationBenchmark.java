@@ -0,0 +1,80 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.SyntheticRoster;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import net.datafaker.transformations.Field;
+import net.datafaker.transformations.JavaObjectTransformer;
+import net.datafaker.transformations.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Server startup without persistence: building the mock roster the way {@code ServerConfiguration} used to, one
+ * {@link JavaObjectTransformer} call on a shared {@link Faker} after another, vs. a seeded {@link SyntheticRoster}
+ * generated on one thread and on all cores, vs. a lazy {@link EmployeeStore} that generates nothing up front. Run with
+ * {@code -PjmhProfilers=gc} to compare what each leaves on the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class RosterGenerationBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"100000", "1000000"})
+    public int rosterSize;
+
+    @Benchmark
+    public List<MockEmployee> transformerSequential() {
+        Faker faker = new Faker(Locale.getDefault());
+        JavaObjectTransformer transformer = new JavaObjectTransformer();
+        var schema = Schema.of(
+                Field.field("id", UUID::randomUUID),
+                Field.field("name", () -> faker.name().fullName()),
+                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
+                Field.field("age", () -> faker.number().numberBetween(16, 70)),
+                Field.field("title", () -> faker.job().title()),
+                Field.field(
+                        "email",
+                        () -> ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase())));
+        return IntStream.range(0, rosterSize)
+                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark
+    public List<MockEmployee> seededSequential() {
+        return new ArrayList<>(new SyntheticRoster(SEED, rosterSize, Locale.getDefault()));
+    }
+
+    @Benchmark
+    public List<MockEmployee> seededParallel() {
+        return new SyntheticRoster(SEED, rosterSize, Locale.getDefault()).materialize();
+    }
+
+    @Benchmark
+    public EmployeeStore lazyStore() {
+        return EmployeeStore.lazy(new SyntheticRoster(SEED, rosterSize, Locale.getDefault()), Duration.ZERO, null);
+    }
+}
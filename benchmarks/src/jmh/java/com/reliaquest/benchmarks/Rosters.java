@@ -0,0 +1,65 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic rosters so that runs are comparable.
+ */
+final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Avery", "Braelyn", "Cameron", "Dakota", "Emersyn", "Finley", "Jordan", "Morgan", "Quinn", "Riley", "Taylor",
+        "Casey", "Harper", "Logan", "Parker", "Rowan", "Sage", "Skyler", "Jamie", "Reese"
+    };
+    private static final String[] LAST_NAMES = {
+        "Anderson", "Alvarez", "Brooks", "Clark", "Davis", "Harris", "Johnson", "Monroe", "Nguyen", "Patel", "Rivera",
+        "Robinson", "Smith", "Stewart", "Thompson", "White", "Wilson", "Young", "Kowalski", "Okafor"
+    };
+    private static final String[] TITLES = {
+        "Software Developer", "Product Manager", "Data Scientist", "QA Engineer", "System Analyst", "Accountant"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> synthetic(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    name,
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    TITLES[random.nextInt(TITLES.length)],
+                    "user" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    /**
+     * The same roster as the server holds it. Names get the position appended so that each one is unique, the way
+     * delete by name needs them to be.
+     */
+    static List<MockEmployee> mockSynthetic(int size) {
+        List<Employee> employees = synthetic(size);
+        List<MockEmployee> mockEmployees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = employees.get(i);
+            mockEmployees.add(new MockEmployee(
+                    UUID.fromString(employee.getId()),
+                    employee.getName() + " " + i,
+                    employee.getSalary(),
+                    employee.getAge(),
+                    employee.getTitle(),
+                    employee.getEmail()));
+        }
+        return mockEmployees;
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Request handling capacity when every request blocks on a slow upstream call, as Feign calls waiting out
+ * 429 retries do. Compares Tomcat's default 200-thread platform pool with a virtual thread per request.
+ * <p>
+ * Reports the time to drain a burst, the peak number of requests in flight and the growth in resident memory
+ * (Linux only). The {@code virtual} variant needs the benchmarks run with {@code -PjavaVersion=21}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ThreadModelBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long UPSTREAM_LATENCY_MILLIS = 100;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000", "10000"})
+    public int burst;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws ReflectiveOperationException {
+        executor = "virtual".equals(threads)
+                ? (ExecutorService)
+                        Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void drainBurst(Counters counters) throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(burst);
+        long rssBefore = residentKilobytes();
+        for (int i = 0; i < burst; i++) {
+            executor.execute(() -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(UPSTREAM_LATENCY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        long rssDuring = residentKilobytes();
+        done.await();
+        counters.peakInFlight = peak.get();
+        counters.residentGrowthKb = Math.max(0, rssDuring - rssBefore);
+    }
+
+    private static long residentKilobytes() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // Not on Linux; memory is reported as zero.
+        }
+        return 0;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long peakInFlight;
+        public long residentGrowthKb;
+    }
+}
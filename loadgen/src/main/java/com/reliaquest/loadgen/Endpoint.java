@@ -0,0 +1,77 @@
+package com.reliaquest.loadgen;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * The seven endpoints of the api's {@code EmployeeControllerImpl}, relative to {@code /api/v1}, and how to build a
+ * request for each from the {@link Fixtures} seeded at the start of a run.
+ */
+public enum Endpoint {
+    GET_ALL {
+        @Override
+        HttpRequest.Builder request(URI base, Fixtures fixtures, SplittableRandom random) {
+            return HttpRequest.newBuilder(resolve(base, "employee")).GET();
+        }
+    },
+    SEARCH {
+        @Override
+        HttpRequest.Builder request(URI base, Fixtures fixtures, SplittableRandom random) {
+            String fragment = URLEncoder.encode(fixtures.nameFragment(random), StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+            return HttpRequest.newBuilder(resolve(base, "employee/search/" + fragment)).GET();
+        }
+    },
+    GET_BY_ID {
+        @Override
+        HttpRequest.Builder request(URI base, Fixtures fixtures, SplittableRandom random) {
+            return HttpRequest.newBuilder(resolve(base, "employee/" + fixtures.rosterId(random))).GET();
+        }
+    },
+    HIGHEST_SALARY {
+        @Override
+        HttpRequest.Builder request(URI base, Fixtures fixtures, SplittableRandom random) {
+            return HttpRequest.newBuilder(resolve(base, "employee/highest-salary")).GET();
+        }
+    },
+    TOP_TEN {
+        @Override
+        HttpRequest.Builder request(URI base, Fixtures fixtures, SplittableRandom random) {
+            return HttpRequest.newBuilder(resolve(base, "employee/top-10-highest-earning")).GET();
+        }
+    },
+    CREATE {
+        @Override
+        HttpRequest.Builder request(URI base, Fixtures fixtures, SplittableRandom random) {
+            String body = "{\"name\":\"Load Test %d\",\"salary\":%d,\"age\":%d,\"title\":\"Load Tester\"}"
+                    .formatted(random.nextInt(1_000_000), random.nextInt(30000, 500000), random.nextInt(16, 70));
+            return HttpRequest.newBuilder(resolve(base, "create"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    },
+    /* Deletes employees this run created, so the seeded roster stays intact for the reads. */
+    DELETE {
+        @Override
+        HttpRequest.Builder request(URI base, Fixtures fixtures, SplittableRandom random) {
+            return HttpRequest.newBuilder(resolve(base, "deleteById/" + fixtures.takeCreatedId())).DELETE();
+        }
+    };
+
+    abstract HttpRequest.Builder request(URI base, Fixtures fixtures, SplittableRandom random);
+
+    HttpRequest build(URI base, Fixtures fixtures, SplittableRandom random, Duration timeout) {
+        return request(base, fixtures, random)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .build();
+    }
+
+    static URI resolve(URI base, String path) {
+        return URI.create(base + "/" + path);
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.loadgen;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency and outcomes for one endpoint, in microseconds. Response time runs from when the request was due under the
+ * arrival schedule, so a request held back by a stalled client or server is charged for its wait; that is the
+ * coordinated omission correction. Service time runs from when it was actually sent.
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /* Status recorded for a request that got no response at all: a timeout or an I/O error. */
+    static final int NO_RESPONSE = -1;
+
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    /*
+     * An empty histogram with the same range and precision, for merging endpoints.
+     */
+    static Histogram histogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, int status) {
+        responseTime.recordValue(micros(completedNanos - intendedNanos));
+        serviceTime.recordValue(micros(completedNanos - sentNanos));
+        statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+    }
+
+    Histogram responseTime() {
+        return responseTime;
+    }
+
+    Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    /*
+     * Counts by HTTP status, in status order, with NO_RESPONSE first.
+     */
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), HIGHEST_TRACKABLE_MICROS);
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Ids and names to put in requests: the roster as the api reported it before the run, plus the employees the run has
+ * created and not yet deleted.
+ */
+final class Fixtures {
+
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(5);
+
+    private final List<String> rosterIds;
+    private final List<String> rosterNames;
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    private Fixtures(List<String> rosterIds, List<String> rosterNames) {
+        this.rosterIds = rosterIds;
+        this.rosterNames = rosterNames;
+    }
+
+    /*
+     * The mock server locks clients out for up to 90 seconds, so the first roster read keeps trying until the
+     * deadline.
+     */
+    static Fixtures load(HttpClient client, ObjectMapper objectMapper, URI apiBase, Duration deadline)
+            throws IOException, InterruptedException {
+        long giveUpAt = System.nanoTime() + deadline.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(Endpoint.resolve(apiBase, "employee"))
+                .header("Accept", "application/json")
+                .timeout(deadline)
+                .GET()
+                .build();
+        while (true) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                List<String> ids = new ArrayList<>();
+                List<String> names = new ArrayList<>();
+                for (JsonNode employee : objectMapper.readTree(response.body())) {
+                    ids.add(employee.path("id").asText());
+                    names.add(employee.path("employee_name").asText());
+                }
+                if (!ids.isEmpty()) {
+                    return new Fixtures(List.copyOf(ids), List.copyOf(names));
+                }
+            }
+            if (System.nanoTime() + RETRY_INTERVAL.toNanos() > giveUpAt) {
+                throw new IllegalStateException(
+                        "Could not read the roster from the api, last status " + response.statusCode());
+            }
+            Thread.sleep(RETRY_INTERVAL.toMillis());
+        }
+    }
+
+    int rosterSize() {
+        return rosterIds.size();
+    }
+
+    String rosterId(SplittableRandom random) {
+        return rosterIds.get(random.nextInt(rosterIds.size()));
+    }
+
+    /*
+     * The first name of a roster employee, so searches match a handful of employees rather than one or all.
+     */
+    String nameFragment(SplittableRandom random) {
+        String name = rosterNames.get(random.nextInt(rosterNames.size()));
+        int space = name.indexOf(' ');
+        return space > 0 ? name.substring(0, space) : name;
+    }
+
+    void created(String id) {
+        createdIds.add(id);
+    }
+
+    /*
+     * When nothing created is left to delete, a random id: the api answers it as not found, which is still a
+     * delete the api has to handle.
+     */
+    String takeCreatedId() {
+        String id = createdIds.poll();
+        return id != null ? id : UUID.randomUUID().toString();
+    }
+}
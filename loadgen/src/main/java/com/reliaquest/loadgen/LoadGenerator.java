@@ -0,0 +1,65 @@
+package com.reliaquest.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Runs one scenario file against a freshly started server and api and writes the report to
+ * {@code <loadgen.reportDir>/<scenario>/<timestamp>/}, next to a copy of the scenario and both applications' logs.
+ * <p>
+ * Usage: {@code LoadGenerator <scenario.json>}, with the {@code loadgen.serverJar} and {@code loadgen.apiJar} system
+ * properties pointing at the two boot jars; {@code ./gradlew loadgen:run} sets them.
+ */
+public final class LoadGenerator {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration FIXTURE_DEADLINE = Duration.ofMinutes(3);
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadGenerator() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("Usage: LoadGenerator <scenario.json>");
+            System.exit(2);
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path scenarioFile = Path.of(args[0]);
+        Scenario scenario = Scenario.read(objectMapper, scenarioFile);
+        Path reportDirectory = Path.of(System.getProperty("loadgen.reportDir", "build/reports/loadgen"))
+                .resolve(scenario.name())
+                .resolve(LocalDateTime.now().format(RUN_ID));
+        Files.createDirectories(reportDirectory);
+        Files.copy(scenarioFile, reportDirectory.resolve("scenario.json"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        try (LocalStack stack = LocalStack.start(
+                client, requiredPath("loadgen.serverJar"), requiredPath("loadgen.apiJar"), scenario, reportDirectory)) {
+            Fixtures fixtures = Fixtures.load(client, objectMapper, stack.apiBase(), FIXTURE_DEADLINE);
+            System.out.printf(
+                    "Running %s against %s with %d roster employees%n",
+                    scenario.name(), stack.apiBase(), fixtures.rosterSize());
+            Map<Endpoint, EndpointStats> stats =
+                    new OpenModelRun(client, objectMapper, stack.apiBase(), scenario, fixtures).run();
+            Report.write(objectMapper, scenario, stats, reportDirectory);
+        }
+        System.out.println("Report written to " + reportDirectory.toAbsolutePath());
+    }
+
+    private static Path requiredPath(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Set -D%s to the boot jar to start".formatted(property));
+        }
+        return Path.of(value);
+    }
+}
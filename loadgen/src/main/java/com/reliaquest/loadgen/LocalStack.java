@@ -0,0 +1,132 @@
+package com.reliaquest.loadgen;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mock server and the api, each started from its boot jar in a child JVM, with the api pointed at the server.
+ * Both use their usual ports unless the scenario sets {@code server.port}. Output goes to {@code server.log} and
+ * {@code api.log} in the report directory.
+ */
+final class LocalStack implements AutoCloseable {
+
+    private static final String DEFAULT_SERVER_PORT = "8112";
+    private static final String DEFAULT_API_PORT = "8111";
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final Deque<Process> processes = new ArrayDeque<>();
+    private String apiPort;
+
+    private LocalStack() {}
+
+    static LocalStack start(HttpClient client, Path serverJar, Path apiJar, Scenario scenario, Path logDirectory)
+            throws IOException, InterruptedException {
+        LocalStack stack = new LocalStack();
+        try {
+            String serverPort = stack.launch(
+                    client,
+                    "server",
+                    serverJar,
+                    Map.of("server.port", DEFAULT_SERVER_PORT),
+                    scenario.serverProperties(),
+                    logDirectory);
+            stack.apiPort = stack.launch(
+                    client,
+                    "api",
+                    apiJar,
+                    Map.of(
+                            "server.port", DEFAULT_API_PORT,
+                            "employee.api.url", "http://localhost:%s/api/v1".formatted(serverPort)),
+                    scenario.apiProperties(),
+                    logDirectory);
+            return stack;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+    }
+
+    URI apiBase() {
+        return URI.create("http://localhost:%s/api/v1".formatted(apiPort));
+    }
+
+    /*
+     * Returns the port the application listens on once it reports healthy.
+     */
+    private String launch(
+            HttpClient client,
+            String name,
+            Path jar,
+            Map<String, String> defaults,
+            Map<String, String> overrides,
+            Path logDirectory)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        defaults.forEach((key, value) -> {
+            if (!overrides.containsKey(key)) {
+                command.add("--%s=%s".formatted(key, value));
+            }
+        });
+        overrides.forEach((key, value) -> command.add("--%s=%s".formatted(key, value)));
+        Path log = logDirectory.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        processes.push(process);
+        String port = overrides.getOrDefault("server.port", defaults.get("server.port"));
+        awaitHealthy(client, name, process, URI.create("http://localhost:%s/actuator/health".formatted(port)), log);
+        return port;
+    }
+
+    private static void awaitHealthy(HttpClient client, String name, Process process, URI health, Path log)
+            throws InterruptedException {
+        long giveUpAt = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(health).timeout(POLL_INTERVAL).GET().build();
+        while (System.nanoTime() < giveUpAt) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The %s exited during startup, see %s".formatted(name, log));
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                /* Not listening, or not answering, yet. */
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException(
+                "The %s was not healthy within %s, see %s".formatted(name, STARTUP_TIMEOUT, log));
+    }
+
+    /*
+     * Stops the api before the server, so the api does not log a burst of upstream failures on the way down.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        while (!processes.isEmpty()) {
+            Process process = processes.pop();
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
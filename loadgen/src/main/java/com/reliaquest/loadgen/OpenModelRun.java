@@ -0,0 +1,135 @@
+package com.reliaquest.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model traffic: request {@code n} is due at {@code start + n / rate} and is sent then, however many earlier
+ * requests are still outstanding. A dispatcher that falls behind sends the late requests as soon as it can, and their
+ * latency still counts from when they were due.
+ */
+final class OpenModelRun {
+
+    private static final Duration DRAIN_POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI apiBase;
+    private final Scenario scenario;
+    private final Fixtures fixtures;
+    private final SplittableRandom random;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final AtomicLong outstanding = new AtomicLong();
+
+    OpenModelRun(HttpClient client, ObjectMapper objectMapper, URI apiBase, Scenario scenario, Fixtures fixtures) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.apiBase = apiBase;
+        this.scenario = scenario;
+        this.fixtures = fixtures;
+        this.random = new SplittableRandom(scenario.seed());
+        List<Endpoint> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            int weight = scenario.mix().getOrDefault(endpoint, 0);
+            if (weight > 0) {
+                total += weight;
+                weighted.add(endpoint);
+                cumulative.add(total);
+            }
+        }
+        this.endpoints = weighted.toArray(Endpoint[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Sends the warmup and measured traffic, then waits up to one request timeout for stragglers.
+     *
+     * @return stats for each endpoint in the mix, covering the measured window only
+     */
+    Map<Endpoint, EndpointStats> run() throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : endpoints) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        Duration timeout = Duration.ofSeconds(scenario.timeoutSeconds());
+        long interval = TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(scenario.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(scenario.durationSeconds());
+        for (long n = 0; ; n++) {
+            long due = start + n * interval;
+            if (due - end >= 0) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = next();
+            send(endpoint, due, due - measureFrom >= 0 ? stats.get(endpoint) : null, timeout);
+        }
+        long giveUpAt = System.nanoTime() + timeout.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() - giveUpAt < 0) {
+            Thread.sleep(DRAIN_POLL_INTERVAL.toMillis());
+        }
+        return stats;
+    }
+
+    private Endpoint next() {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Weight " + pick + " is outside the mix");
+    }
+
+    /*
+     * Warmup requests pass null stats and are not recorded.
+     */
+    private void send(Endpoint endpoint, long due, EndpointStats stats, Duration timeout) {
+        HttpRequest request = endpoint.build(apiBase, fixtures, random, timeout);
+        outstanding.incrementAndGet();
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            long completed = System.nanoTime();
+            if (stats != null) {
+                int status = response == null ? EndpointStats.NO_RESPONSE : response.statusCode();
+                stats.record(due, sent, completed, status);
+            }
+            if (endpoint == Endpoint.CREATE && response != null && response.statusCode() / 100 == 2) {
+                rememberCreated(response.body());
+            }
+            outstanding.decrementAndGet();
+        });
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            if (id != null) {
+                fixtures.created(id.asText());
+            }
+        } catch (IOException e) {
+            /* Not an employee; nothing to delete later. */
+        }
+    }
+}
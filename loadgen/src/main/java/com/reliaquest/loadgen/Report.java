@@ -0,0 +1,137 @@
+package com.reliaquest.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Writes a run's results to its report directory: {@code summary.txt} for reading, {@code summary.json} for comparing
+ * runs, and an HdrHistogram percentile distribution per endpoint ({@code <ENDPOINT>.hgrm}, plus {@code ALL.hgrm})
+ * that the HdrHistogram plotter can overlay across runs. Latencies are reported in milliseconds.
+ */
+final class Report {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private Report() {}
+
+    static void write(ObjectMapper objectMapper, Scenario scenario, Map<Endpoint, EndpointStats> stats, Path directory)
+            throws IOException {
+        Histogram allResponseTimes = EndpointStats.histogram();
+        Histogram allServiceTimes = EndpointStats.histogram();
+        Map<Integer, Long> allStatuses = new TreeMap<>();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            allResponseTimes.add(endpointStats.responseTime());
+            allServiceTimes.add(endpointStats.serviceTime());
+            endpointStats.statuses().forEach((status, count) -> allStatuses.merge(status, count, Long::sum));
+            endpoints.put(
+                    entry.getKey().name(),
+                    summary(
+                            scenario,
+                            endpointStats.responseTime(),
+                            endpointStats.serviceTime(),
+                            endpointStats.statuses()));
+            writeDistribution(endpointStats.responseTime(), directory.resolve(entry.getKey().name() + ".hgrm"));
+        }
+        writeDistribution(allResponseTimes, directory.resolve("ALL.hgrm"));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", scenario);
+        summary.put("all", summary(scenario, allResponseTimes, allServiceTimes, allStatuses));
+        summary.put("endpoints", endpoints);
+        objectMapper
+                .writer(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("summary.json").toFile(), summary);
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            printTable(out, scenario, stats, allResponseTimes, allStatuses);
+        }
+        printTable(System.out, scenario, stats, allResponseTimes, allStatuses);
+    }
+
+    private static Map<String, Object> summary(
+            Scenario scenario, Histogram responseTime, Histogram serviceTime, Map<Integer, Long> statuses) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", responseTime.getTotalCount());
+        summary.put("throughputPerSecond", (double) responseTime.getTotalCount() / scenario.durationSeconds());
+        summary.put("statuses", statusesByName(statuses));
+        summary.put("responseTimeMillis", percentiles(responseTime));
+        summary.put("serviceTimeMillis", percentiles(serviceTime));
+        return summary;
+    }
+
+    private static Map<String, Long> statusesByName(Map<Integer, Long> statuses) {
+        Map<String, Long> named = new LinkedHashMap<>();
+        statuses.forEach((status, count) ->
+                named.put(status == EndpointStats.NO_RESPONSE ? "no_response" : String.valueOf(status), count));
+        return named;
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            percentiles.put("p" + format(percentile), millis(histogram.getValueAtPercentile(percentile)));
+        }
+        percentiles.put("max", millis(histogram.getMaxValue()));
+        percentiles.put("mean", histogram.getMean() / MICROS_PER_MILLI);
+        return percentiles;
+    }
+
+    private static void printTable(
+            PrintStream out,
+            Scenario scenario,
+            Map<Endpoint, EndpointStats> stats,
+            Histogram allResponseTimes,
+            Map<Integer, Long> allStatuses) {
+        out.printf(
+                "Scenario %s: %d req/s for %ds after %ds warmup, response time from intended start (ms)%n",
+                scenario.name(), scenario.ratePerSecond(), scenario.durationSeconds(), scenario.warmupSeconds());
+        out.printf(
+                "%-16s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "req/s", "p50", "p90", "p99", "p99.9", "max", "statuses");
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            printRow(out, scenario, entry.getKey().name(), endpointStats.responseTime(), endpointStats.statuses());
+        }
+        printRow(out, scenario, "ALL", allResponseTimes, allStatuses);
+    }
+
+    private static void printRow(
+            PrintStream out, Scenario scenario, String name, Histogram histogram, Map<Integer, Long> statuses) {
+        out.printf(
+                "%-16s %8d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                name,
+                histogram.getTotalCount(),
+                (double) histogram.getTotalCount() / scenario.durationSeconds(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                statusesByName(statuses));
+    }
+
+    private static void writeDistribution(Histogram histogram, Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A load run as read from a scenario file: an open-model arrival rate, how long to warm up and measure, the mix of
+ * api endpoints by weight, and properties to start each application with.
+ *
+ * @param ratePerSecond requests started per second, whether or not earlier ones have completed
+ * @param warmupSeconds traffic sent before measuring starts; it is not recorded
+ * @param timeoutSeconds per-request timeout; a timed-out request counts as a failure at its full latency
+ * @param seed seeds the endpoint choice and request parameters, so two runs of a scenario send the same sequence
+ * @param mix relative weight of each endpoint
+ * @param apiProperties passed to the api as {@code --key=value}
+ * @param serverProperties passed to the server as {@code --key=value}
+ */
+public record Scenario(
+        String name,
+        int ratePerSecond,
+        int warmupSeconds,
+        int durationSeconds,
+        int timeoutSeconds,
+        long seed,
+        Map<Endpoint, Integer> mix,
+        Map<String, String> apiProperties,
+        Map<String, String> serverProperties) {
+
+    private static final int DEFAULT_TIMEOUT_SECONDS = 60;
+
+    public Scenario {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Scenario needs a name");
+        }
+        if (ratePerSecond < 1 || durationSeconds < 1 || warmupSeconds < 0) {
+            throw new IllegalArgumentException(
+                    "Scenario %s needs a positive rate and duration and a warmup of zero or more".formatted(name));
+        }
+        if (mix == null
+                || mix.isEmpty()
+                || mix.values().stream().anyMatch(weight -> weight < 0)
+                || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Scenario %s needs a mix with non-negative weights".formatted(name));
+        }
+        timeoutSeconds = timeoutSeconds > 0 ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS;
+        mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+        apiProperties = apiProperties == null ? Map.of() : Map.copyOf(apiProperties);
+        serverProperties = serverProperties == null ? Map.of() : Map.copyOf(serverProperties);
+    }
+
+    static Scenario read(ObjectMapper objectMapper, Path file) throws IOException {
+        return objectMapper.readValue(file.toFile(), Scenario.class);
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.store.EmployeeJournal;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Optional persistence of the mock roster across restarts, see {@link EmployeeJournal}.
+ *
+ * @param enabled keep the roster in {@code directory} instead of generating a new one on every start
+ * @param fsync when journaled creates and deletes are forced to disk
+ * @param fsyncInterval how often the {@code interval} policy forces the journal
+ * @param snapshotEvery journal records between compacting snapshots
+ */
+@ConfigurationProperties(prefix = "mock.employees.persistence")
+public record EmployeePersistenceProperties(
+        boolean enabled,
+        @DefaultValue("data") Path directory,
+        @DefaultValue("interval") EmployeeJournal.FsyncPolicy fsync,
+        @DefaultValue("1s") Duration fsyncInterval,
+        @DefaultValue("100000") int snapshotEvery) {}
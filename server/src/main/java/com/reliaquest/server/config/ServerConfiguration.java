@@ -1,59 +1,110 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeJournal;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.SyntheticRoster;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(EmployeePersistenceProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final MeterRegistry meterRegistry;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Restores the roster on startup and journals every change; closed with the context, after any pending snapshot.
+     *
+     * Lazy rosters are refused before anything is written: a snapshot holds every employee, so a lazy roster would be
+     * generated in full for the first snapshot and restored in full on every later start.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "mock.employees.persistence", name = "enabled", havingValue = "true")
+    public EmployeeJournal employeeJournal(
+            EmployeePersistenceProperties properties, @Value("${mock.employees.lazy:false}") boolean lazy)
+            throws IOException {
+        if (lazy) {
+            throw new IllegalStateException(
+                    "mock.employees.lazy cannot be combined with mock.employees.persistence.enabled");
+        }
+        return EmployeeJournal.open(
+                properties.directory(), properties.fsync(), properties.fsyncInterval(), properties.snapshotEvery());
+    }
+
+    /*
+     * The store is modifiable by design for CRUD operations. With persistence on, a restored roster is used as is and
+     * a generated one becomes the journal's first snapshot.
+     *
+     * A generated roster comes from mock.employees.seed, or a random seed that is logged so the run can be repeated.
+     * It is built up front on all cores, or with mock.employees.lazy derived per employee whenever it is read. Lazy
+     * rosters never have a journal, see employeeJournal.
+     */
+    @Bean
+    public EmployeeStore employeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.lazy:false}") boolean lazy,
+            @Value("${mock.employees.cursor-retention:10m}") Duration cursorRetention,
+            ObjectProvider<EmployeeJournal> employeeJournal)
+            throws IOException {
+        final var journal = employeeJournal.getIfAvailable();
+        if (journal != null && journal.recovered().isPresent()) {
+            return new EmployeeStore(journal.recovered().get(), cursorRetention, journal);
+        }
+        final var roster = new SyntheticRoster(
+                seed == null ? ThreadLocalRandom.current().nextLong() : seed, maxEmployees, Locale.getDefault());
+        log.info("Generating {} {} employees from seed {}", maxEmployees, lazy ? "lazy" : "eager", roster.seed());
+        if (lazy) {
+            return EmployeeStore.lazy(roster, cursorRetention, null);
+        }
+        final List<MockEmployee> mockEmployees = roster.materialize();
+        if (journal != null) {
+            journal.seed(mockEmployees);
+        }
+        return new EmployeeStore(mockEmployees, cursorRetention, journal);
+    }
+
+    /*
+     * Answers Accept: application/x-jackson-smile with the same mapping as JSON. It replaces the default Smile
+     * converter in place, after the JSON one, so callers that accept anything still get JSON.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new RandomRequestLimitInterceptor(meterRegistry))
+                .excludePathPatterns("/actuator/**");
     }
 }
@@ -1,14 +1,24 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeesInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.PageCursor;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,19 +26,114 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int FLUSH_EVERY = 256;
+
     private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
 
+    /*
+     * Answers 304 without touching the roster when If-None-Match carries the current ETag.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final var eTag = mockEmployeeService.getRosterETag();
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    /*
+     * Paged listing. The cursor of the next page, if any, is returned in the X-Next-Cursor header.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployeePage(
+            @RequestParam("limit") int limit, @RequestParam(value = "cursor", required = false) String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "limit must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+        }
+        final var page = mockEmployeeService.getMockEmployeePage(limit, decode(cursor));
+        final var response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(
+                    NEXT_CURSOR_HEADER, new PageCursor(page.version(), page.nextSequence()).encode());
+        }
+        return response.body(Response.handledWith(page.employees()));
+    }
+
+    /*
+     * One employee per line, without the Response envelope, written straight to the servlet output stream
+     * so the first record leaves before the rest are serialized.
+     */
+    @GetMapping(produces = APPLICATION_NDJSON)
+    public void streamEmployees(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletResponse response)
+            throws IOException {
+        final var eTag = mockEmployeeService.getRosterETag();
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        if (matches(ifNoneMatch, eTag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        response.setContentType(APPLICATION_NDJSON);
+        ObjectWriter writer =
+                objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            int written = 0;
+            for (MockEmployee mockEmployee : mockEmployeeService.getMockEmployees()) {
+                writer.writeValue(generator, mockEmployee);
+                generator.writeRaw('\n');
+                if (++written == 1 || written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    /*
+     * Weak comparison as in RFC 9110: any listed tag, with or without W/, or a wildcard.
+     */
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(eTag) || tag.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return PageCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed cursor");
+        }
     }
 
     @GetMapping("/{id}")
@@ -44,6 +149,24 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody CreateMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.createAll(input.getEmployees()));
+    }
+
+    @DeleteMapping("/batch")
+    public Response<List<Boolean>> deleteEmployees(@Valid @RequestBody DeleteMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.deleteAll(input.getNames()));
+    }
+
+    /*
+     * Unlike the delete by name, always removes exactly the employee asked for, even when names are shared.
+     */
+    @DeleteMapping("/{id}")
+    public Response<Boolean> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return Response.handledWith(mockEmployeeService.deleteById(uuid));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
@@ -1,15 +1,37 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.StaleVersionException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ResponseStatusException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleStatusException(ResponseStatusException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.status(ex.getStatusCode()).body(Response.error(ex.getReason()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidInput(MethodArgumentNotValidException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error("Invalid request body"));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleStaleVersion(StaleVersionException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
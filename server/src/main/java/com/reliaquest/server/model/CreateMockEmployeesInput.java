@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class CreateMockEmployeesInput {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid @NotNull CreateMockEmployeeInput> employees;
+}
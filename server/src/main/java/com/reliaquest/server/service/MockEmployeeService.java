@@ -4,11 +4,11 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.PageCursor;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +22,90 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore employeeStore;
+
+    // Store versions restart at zero with every run, so tags carry the start time to tell runs apart.
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /*
+     * Strong ETag of the current roster. It changes with every create and delete. Read it before the roster so a
+     * response never carries a tag newer than its body.
+     */
+    public String getRosterETag() {
+        return "\"%s-%d\"".formatted(epoch, employeeStore.version());
+    }
+
+    /*
+     * A read-only roster shared until the next create or delete, so readers are not tripped up by concurrent writes.
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return employeeStore.employees();
+    }
+
+    /*
+     * A page of the roster as it was when the listing started; creates and deletes made since do not shift it.
+     */
+    public EmployeeStore.Page getMockEmployeePage(int limit, PageCursor cursor) {
+        if (cursor == null) {
+            return employeeStore.page(employeeStore.version(), 0, limit);
+        }
+        return employeeStore.page(cursor.version(), cursor.sequence(), limit);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return employeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = toMockEmployee(input);
+        employeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /*
+     * The whole batch becomes visible at once, in input order.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream().map(this::toMockEmployee).toList();
+        employeeStore.addAll(mockEmployees);
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
+    /*
+     * Deletes the oldest employee whose name matches ignoring case.
+     */
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        return removed(employeeStore.removeByName(input.getName()));
+    }
+
+    public boolean deleteById(@NonNull UUID uuid) {
+        return removed(employeeStore.removeById(uuid));
+    }
+
+    /*
+     * Same matching as delete, applied to every name under one store version. The result is aligned with the names.
+     */
+    public List<Boolean> deleteAll(@NonNull List<String> names) {
+        final var removed = employeeStore.removeEachByName(names);
+        log.debug("Removed {} of {} employees", removed.stream().filter(Optional::isPresent).count(), names.size());
+        return removed.stream().map(Optional::isPresent).toList();
+    }
+
+    private boolean removed(Optional<MockEmployee> mockEmployee) {
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    private MockEmployee toMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
 }
@@ -0,0 +1,77 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Fixed binary layout of a {@link MockEmployee} in journal records and snapshots: the id as two longs, salary and age
+ * as ints with {@link Integer#MIN_VALUE} for null, then name, title and email as a byte length ({@code -1} for null)
+ * followed by UTF-8 bytes.
+ */
+final class EmployeeCodec {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    private EmployeeCodec() {}
+
+    static void write(DataOutput out, MockEmployee employee) throws IOException {
+        final UUID id = employee.getId();
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+        out.writeInt(employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        out.writeInt(employee.getAge() == null ? NULL_INT : employee.getAge());
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee read(ByteBuffer in) {
+        final var id = readId(in);
+        final int salary = in.getInt();
+        final int age = in.getInt();
+        return new MockEmployee(
+                id,
+                readString(in),
+                salary == NULL_INT ? null : salary,
+                age == NULL_INT ? null : age,
+                readString(in),
+                readString(in));
+    }
+
+    static void writeId(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readId(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_STRING);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        final int length = in.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalStateException("String of %d bytes runs past the record".formatted(length));
+        }
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,561 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-ahead journal and snapshots that let an {@link EmployeeStore} survive restarts.
+ * <p>
+ * Every create and delete is appended to {@code journal-<n>.bin} before the store applies it, as a length- and
+ * CRC-framed record holding the employees added or the ids removed. After {@code snapshotEvery} records the journal
+ * moves on to generation {@code n + 1} and a background thread writes {@code snapshot-<n + 1>.bin}, the live roster as
+ * of the end of {@code journal-<n>}. Once that snapshot is in place, older snapshots and journals are deleted.
+ * <p>
+ * {@link #open} restores the newest readable snapshot plus every journal from its generation on, reading both through
+ * memory-mapped buffers. A record cut short by a crash ends its journal and is skipped; writing always continues in a
+ * new generation, and the part of a record whose append fails is cut off again, so nothing is ever appended after a
+ * torn record. Single files are mapped whole, which caps a snapshot at 2 GB, about ten million employees.
+ */
+@Slf4j
+public final class EmployeeJournal implements Closeable {
+
+    /**
+     * When appended records are forced to disk: after each one, every {@code fsyncInterval} from a background thread,
+     * or only when the operating system chooses to.
+     */
+    public enum FsyncPolicy {
+        ALWAYS,
+        INTERVAL,
+        NEVER
+    }
+
+    private static final Pattern FILE_NAME = Pattern.compile("(snapshot|journal)-(\\d+)\\.bin");
+    private static final long SNAPSHOT_MAGIC = 0x4d4f434b534e4150L;
+    private static final byte ADDED = 1;
+    private static final byte REMOVED = 2;
+    private static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int SNAPSHOT_BUFFER_BYTES = 1 << 16;
+    private static final Duration CLOSE_TIMEOUT = Duration.ofMinutes(1);
+
+    private final Path directory;
+    private final FsyncPolicy fsync;
+    private final int snapshotEvery;
+    /* Writes snapshots one at a time, in generation order. */
+    private final ExecutorService background = Executors.newSingleThreadExecutor(daemon("employee-snapshot"));
+    /* Forces the journal under the interval policy, on its own thread so a long snapshot does not hold it up. */
+    private final ScheduledExecutorService flusher;
+    private final List<MockEmployee> recovered;
+    private final RecordBuffer record = new RecordBuffer();
+    private final DataOutputStream recordOut = new DataOutputStream(record);
+    private final CRC32 recordChecksum = new CRC32();
+
+    /* Appends and rotation run under the store's write lock; the flusher only forces this channel. */
+    private volatile FileChannel journal;
+    private long generation;
+    private int recordsSinceSnapshot;
+
+    private EmployeeJournal(
+            Path directory,
+            FsyncPolicy fsync,
+            Duration fsyncInterval,
+            int snapshotEvery,
+            List<MockEmployee> recovered,
+            long generation)
+            throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.snapshotEvery = Math.max(1, snapshotEvery);
+        this.recovered = recovered;
+        this.generation = generation;
+        this.journal = openJournal(generation);
+        if (fsync == FsyncPolicy.INTERVAL) {
+            final long intervalNanos = fsyncInterval.toNanos();
+            this.flusher = Executors.newSingleThreadScheduledExecutor(daemon("employee-journal-fsync"));
+            flusher.scheduleWithFixedDelay(this::forceJournal, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Restores whatever {@code directory} holds and starts a new journal generation there. If any journal had to be
+     * replayed, a fresh snapshot of the restored roster is written in the background so the next start is faster.
+     */
+    public static EmployeeJournal open(
+            Path directory, FsyncPolicy fsync, Duration fsyncInterval, int snapshotEvery) throws IOException {
+        Files.createDirectories(directory);
+        final var snapshots = new TreeMap<Long, Path>();
+        final var journals = new TreeMap<Long, Path>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                final Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    final long fileGeneration = Long.parseLong(matcher.group(2));
+                    (matcher.group(1).equals("snapshot") ? snapshots : journals).put(fileGeneration, file);
+                } else if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        if (snapshots.isEmpty() && allEmpty(journals.values())) {
+            /* Nothing was recorded, not even the first snapshot of the starting roster. */
+            for (Path file : journals.values()) {
+                Files.delete(file);
+            }
+            log.info("No employee journal in {}, starting a new one", directory);
+            return new EmployeeJournal(directory, fsync, fsyncInterval, snapshotEvery, null, 1);
+        }
+
+        final long started = System.nanoTime();
+        Restored roster = null;
+        long replayFrom = 0;
+        for (Map.Entry<Long, Path> snapshot : snapshots.descendingMap().entrySet()) {
+            try {
+                roster = new Restored(readSnapshot(snapshot.getValue()));
+                replayFrom = snapshot.getKey();
+                break;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable snapshot {}: {}", snapshot.getValue(), e.getMessage());
+            }
+        }
+        if (roster == null) {
+            if (!snapshots.isEmpty()) {
+                /* Journals older than a snapshot may already be gone, so replaying what is left would lose data. */
+                throw new IOException("No readable snapshot in " + directory);
+            }
+            roster = new Restored(new ArrayList<>());
+        }
+        /*
+         * Every generation opens its journal before its snapshot is written, and nothing is deleted before the first
+         * snapshot, so the journals to replay run without gaps from the snapshot's generation, or from 1.
+         */
+        long expected = snapshots.isEmpty() ? 1 : replayFrom;
+        for (long journalGeneration : journals.tailMap(replayFrom).keySet()) {
+            if (journalGeneration != expected) {
+                throw new IOException("Journal generation %d is missing from %s".formatted(expected, directory));
+            }
+            expected++;
+        }
+        int replayed = 0;
+        for (Path file : journals.tailMap(replayFrom).values()) {
+            replayed += replay(file, roster);
+        }
+        final long lastGeneration = Math.max(
+                snapshots.isEmpty() ? 0 : snapshots.lastKey(), journals.isEmpty() ? 0 : journals.lastKey());
+        log.info(
+                "Restored {} employees from {} (snapshot generation {}, {} journal records) in {} ms",
+                roster.size(),
+                directory,
+                replayFrom,
+                replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        final var employees = roster.employees();
+        final var opened =
+                new EmployeeJournal(directory, fsync, fsyncInterval, snapshotEvery, employees, lastGeneration + 1);
+        if (!journals.tailMap(replayFrom).isEmpty()) {
+            final long snapshotGeneration = opened.generation;
+            opened.background.execute(() -> opened.snapshotInBackground(snapshotGeneration, employees));
+        }
+        return opened;
+    }
+
+    /**
+     * The roster restored by {@link #open}, or empty when the directory held no journal yet.
+     */
+    public Optional<List<MockEmployee>> recovered() {
+        return Optional.ofNullable(recovered);
+    }
+
+    /**
+     * Writes the starting roster of a new journal as its first snapshot, before any record is appended. Without it a
+     * restart would replay the journal onto an empty roster, so a failure here must stop the store from starting.
+     */
+    public void seed(List<MockEmployee> employees) throws IOException {
+        snapshot(generation, employees);
+    }
+
+    void added(List<MockEmployee> employees) {
+        try {
+            startRecord(ADDED, employees.size());
+            for (MockEmployee employee : employees) {
+                EmployeeCodec.write(recordOut, employee);
+            }
+            appendRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal %d added employees".formatted(employees.size()), e);
+        }
+    }
+
+    void removed(List<MockEmployee> employees) {
+        try {
+            startRecord(REMOVED, employees.size());
+            for (MockEmployee employee : employees) {
+                EmployeeCodec.writeId(recordOut, employee.getId());
+            }
+            appendRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal %d removed employees".formatted(employees.size()), e);
+        }
+    }
+
+    boolean snapshotDue() {
+        return recordsSinceSnapshot >= snapshotEvery;
+    }
+
+    /**
+     * Starts the next journal generation and snapshots {@code roster}, the store as of the last record of the
+     * previous one, in the background. Called under the store's write lock, so no record lands in between.
+     */
+    void rotate(List<MockEmployee> roster) {
+        final var previous = journal;
+        try {
+            journal = openJournal(generation + 1);
+        } catch (IOException e) {
+            /* The write itself is journaled and applied; keep appending here and try again after the next one. */
+            log.error("Could not start journal generation {}, staying on {}", generation + 1, generation, e);
+            return;
+        }
+        generation++;
+        recordsSinceSnapshot = 0;
+        try {
+            closeJournal(previous);
+        } catch (IOException e) {
+            log.warn("Could not close journal generation {}: {}", generation - 1, e.getMessage());
+        }
+        final long snapshotGeneration = generation;
+        background.execute(() -> snapshotInBackground(snapshotGeneration, roster));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        background.shutdown();
+        try {
+            if (!background.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Snapshot still running after {}, closing the journal anyway", CLOSE_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeJournal(journal);
+    }
+
+    private void startRecord(byte type, int count) throws IOException {
+        record.reset();
+        recordOut.writeInt(0);
+        recordOut.writeInt(0);
+        recordOut.writeByte(type);
+        recordOut.writeInt(count);
+    }
+
+    private void appendRecord() throws IOException {
+        final var bytes = record.bytes();
+        final int bodyLength = bytes.remaining() - RECORD_HEADER_BYTES;
+        recordChecksum.reset();
+        recordChecksum.update(bytes.slice(RECORD_HEADER_BYTES, bodyLength));
+        bytes.putInt(0, bodyLength);
+        bytes.putInt(Integer.BYTES, (int) recordChecksum.getValue());
+        final long start = journal.position();
+        try {
+            while (bytes.hasRemaining()) {
+                journal.write(bytes);
+            }
+            if (fsync == FsyncPolicy.ALWAYS) {
+                journal.force(false);
+            }
+        } catch (IOException e) {
+            discardFrom(start, e);
+            throw e;
+        }
+        recordsSinceSnapshot++;
+    }
+
+    /*
+     * The store does not apply a write whose append failed, so whatever part of its record reached the file is cut
+     * off again; left there, it would end replay before any record appended after it. If even that fails, appending
+     * moves on to a new generation, which replay reads after the torn one.
+     */
+    private void discardFrom(long start, IOException cause) {
+        try {
+            journal.truncate(start);
+            return;
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        final var previous = journal;
+        try {
+            journal = openJournal(generation + 1);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            return;
+        }
+        generation++;
+        log.warn("Could not discard a torn journal record, moved on to generation {}", generation);
+        try {
+            previous.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private FileChannel openJournal(long journalGeneration) throws IOException {
+        return FileChannel.open(
+                directory.resolve("journal-%d.bin".formatted(journalGeneration)),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private void closeJournal(FileChannel channel) throws IOException {
+        if (fsync != FsyncPolicy.NEVER && channel.isOpen()) {
+            channel.force(false);
+        }
+        channel.close();
+    }
+
+    private void forceJournal() {
+        try {
+            journal.force(false);
+        } catch (IOException e) {
+            /* The channel was closed by a rotation, which forces it itself. */
+            log.debug("Skipped journal fsync: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * A later snapshot only saves replay time: the journals it would replace are still there, so a failure is logged
+     * and the next rotation tries again.
+     */
+    private void snapshotInBackground(long snapshotGeneration, List<MockEmployee> roster) {
+        try {
+            snapshot(snapshotGeneration, roster);
+        } catch (IOException e) {
+            log.error("Could not write snapshot {}, the journal is kept instead", snapshotGeneration, e);
+        }
+    }
+
+    /*
+     * Written to a temporary file and moved into place, so a snapshot file is either complete or absent. Only then
+     * are the files it supersedes deleted.
+     */
+    private void snapshot(long snapshotGeneration, List<MockEmployee> roster) throws IOException {
+        final long started = System.nanoTime();
+        final var target = directory.resolve("snapshot-%d.bin".formatted(snapshotGeneration));
+        final var temporary = directory.resolve("snapshot-%d.bin.tmp".formatted(snapshotGeneration));
+        try (FileChannel channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var checksum = new CRC32();
+            final var out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), checksum), SNAPSHOT_BUFFER_BYTES));
+            out.writeLong(SNAPSHOT_MAGIC);
+            out.writeInt(roster.size());
+            for (MockEmployee employee : roster) {
+                EmployeeCodec.write(out, employee);
+            }
+            out.flush();
+            final var trailer = ByteBuffer.allocate(Integer.BYTES).putInt(0, (int) checksum.getValue());
+            while (trailer.hasRemaining()) {
+                channel.write(trailer);
+            }
+            if (fsync != FsyncPolicy.NEVER) {
+                channel.force(true);
+            }
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        deleteOlderThan(snapshotGeneration);
+        log.info(
+                "Wrote snapshot {} of {} employees in {} ms",
+                target.getFileName(),
+                roster.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void deleteOlderThan(long snapshotGeneration) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                final Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(2)) < snapshotGeneration) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static boolean allEmpty(Iterable<Path> files) throws IOException {
+        for (Path file : files) {
+            if (Files.size(file) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            final var thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static List<MockEmployee> readSnapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < Long.BYTES + 2 * Integer.BYTES) {
+                throw new IOException("Snapshot is only %d bytes".formatted(size));
+            }
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final int contentLength = (int) size - Integer.BYTES;
+            final var checksum = new CRC32();
+            checksum.update(buffer.slice(0, contentLength));
+            if ((int) checksum.getValue() != buffer.getInt(contentLength)) {
+                throw new IOException("Snapshot checksum does not match");
+            }
+            if (buffer.getLong() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not an employee snapshot");
+            }
+            final int count = buffer.getInt();
+            final var roster = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                roster.add(EmployeeCodec.read(buffer));
+            }
+            return roster;
+        }
+    }
+
+    /*
+     * Applies every intact record of one journal to the roster and returns how many there were.
+     */
+    private static int replay(Path file, Restored roster) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size == 0) {
+                return 0;
+            }
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final var checksum = new CRC32();
+            int records = 0;
+            while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+                final int start = buffer.position();
+                final int length = buffer.getInt();
+                final int expected = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                final var body = buffer.slice(buffer.position(), length);
+                checksum.reset();
+                checksum.update(body.duplicate());
+                if ((int) checksum.getValue() != expected) {
+                    buffer.position(start);
+                    break;
+                }
+                apply(body, roster.byId());
+                buffer.position(buffer.position() + length);
+                records++;
+            }
+            if (buffer.hasRemaining()) {
+                log.warn(
+                        "Journal {} ends in {} bytes of an incomplete record, ignoring them",
+                        file.getFileName(),
+                        buffer.remaining());
+            }
+            return records;
+        }
+    }
+
+    private static void apply(ByteBuffer body, Map<UUID, MockEmployee> roster) {
+        final byte type = body.get();
+        final int count = body.getInt();
+        for (int i = 0; i < count; i++) {
+            switch (type) {
+                case ADDED -> {
+                    final var employee = EmployeeCodec.read(body);
+                    roster.put(employee.getId(), employee);
+                }
+                case REMOVED -> roster.remove(EmployeeCodec.readId(body));
+                default -> throw new IllegalStateException("Unknown journal record type " + type);
+            }
+        }
+    }
+
+    /*
+     * The roster being restored. It stays the snapshot's plain list unless a journal record needs employees by id,
+     * which saves building a map of the whole roster on a clean restart.
+     */
+    private static final class Restored {
+
+        private List<MockEmployee> list;
+        private Map<UUID, MockEmployee> byId;
+
+        private Restored(List<MockEmployee> list) {
+            this.list = list;
+        }
+
+        Map<UUID, MockEmployee> byId() {
+            if (byId == null) {
+                byId = new LinkedHashMap<>(Math.max(16, (int) (list.size() / 0.75f) + 1));
+                for (MockEmployee employee : list) {
+                    byId.put(employee.getId(), employee);
+                }
+                list = null;
+            }
+            return byId;
+        }
+
+        List<MockEmployee> employees() {
+            return byId == null ? list : new ArrayList<>(byId.values());
+        }
+
+        int size() {
+            return byId == null ? list.size() : byId.size();
+        }
+    }
+
+    /*
+     * Exposes the written bytes without the copy toByteArray makes.
+     */
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+
+        private RecordBuffer() {
+            super(256);
+        }
+
+        ByteBuffer bytes() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
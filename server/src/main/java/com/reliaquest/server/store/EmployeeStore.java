@@ -0,0 +1,601 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Append-only log of mock employees. Every create and delete bumps the store version, and each entry remembers the
+ * version that created it and the version that deleted it, so the roster as of any recent version can be read in
+ * place without copying it. Deleted entries are compacted away once they are older than the cursor retention window;
+ * reading a version from before the last compaction fails with {@link StaleVersionException}.
+ * <p>
+ * Live employees are also indexed by id and by case-folded name, so lookups and deletes do not scan the log. Writes
+ * and paged reads take a lock; the version, lookups by id and the live roster are read without one. The live roster
+ * is built once per version and shared until the next write.
+ * <p>
+ * With an {@link EmployeeJournal}, every create and delete is journaled before it is applied; a write whose journal
+ * append fails leaves the store unchanged.
+ * <p>
+ * A {@link #lazy} store starts from a {@link SyntheticRoster} that it does not copy: those employees take the first
+ * sequences, are derived again whenever they are read, and only their deletes are recorded. The first delete by name
+ * derives every name once to build a compact hash index.
+ */
+public class EmployeeStore {
+
+    private static final long ALIVE = Long.MAX_VALUE;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+    private static final Duration CHECKPOINT_INTERVAL = Duration.ofSeconds(1);
+    private static final int MAX_CHECKPOINTS = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Duration retention;
+    private final Clock clock;
+    /* Null when the store lives in memory only. */
+    private final EmployeeJournal journal;
+    private final Deque<Checkpoint> checkpoints = new ArrayDeque<>();
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+    /* Live entries per folded name in log order, so the first is the one a delete by name takes. Guarded by lock. */
+    private final Map<String, Deque<Entry>> byName = new HashMap<>();
+    /* The lazy starting roster, or null; it takes sequences 0 to baseSize - 1. */
+    private final SyntheticRoster base;
+    private final int baseSize;
+    /* Delete versions of base employees by index. Never compacted, as it is all that marks them deleted. */
+    private final Map<Integer, Long> baseDeleted = new ConcurrentHashMap<>();
+    /* Folded name hash in the high half and index in the low half of each base employee, sorted. Guarded by lock. */
+    private long[] baseNames;
+
+    private List<Entry> log = new ArrayList<>();
+    private volatile long version;
+    /* Live employees at the current version, or null until a read builds them after a write. */
+    private volatile List<MockEmployee> live;
+    private long nextSequence;
+    private int tombstones;
+    private long compactedThrough;
+
+    public EmployeeStore(Collection<MockEmployee> employees, Duration retention) {
+        this(employees, retention, null);
+    }
+
+    /**
+     * @param employees the starting roster, which must already be in the journal when there is one
+     */
+    public EmployeeStore(Collection<MockEmployee> employees, Duration retention, EmployeeJournal journal) {
+        this(employees, retention, journal, Clock.systemUTC());
+    }
+
+    EmployeeStore(Collection<MockEmployee> employees, Duration retention, EmployeeJournal journal, Clock clock) {
+        this(null, employees, retention, journal, clock);
+    }
+
+    private EmployeeStore(
+            SyntheticRoster base,
+            Collection<MockEmployee> employees,
+            Duration retention,
+            EmployeeJournal journal,
+            Clock clock) {
+        this.retention = retention;
+        this.clock = clock;
+        this.journal = journal;
+        this.base = base;
+        this.baseSize = base == null ? 0 : base.size();
+        this.nextSequence = baseSize;
+        employees.forEach(employee -> append(employee, version));
+    }
+
+    /**
+     * A store that starts with {@code roster} without holding it in memory.
+     *
+     * @param roster the starting roster, which must already be in the journal when there is one
+     */
+    public static EmployeeStore lazy(SyntheticRoster roster, Duration retention, EmployeeJournal journal) {
+        return new EmployeeStore(roster, List.of(), retention, journal, Clock.systemUTC());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Live employees in insertion order, as an unmodifiable list that later writes do not change. For a lazy store
+     * the list derives base employees as they are read.
+     */
+    public List<MockEmployee> employees() {
+        final var employees = live;
+        if (employees != null) {
+            return employees;
+        }
+        lock.readLock().lock();
+        try {
+            final var built = new ArrayList<MockEmployee>(log.size() - tombstones);
+            for (Entry entry : log) {
+                if (entry.deletedVersion == ALIVE) {
+                    built.add(entry.employee);
+                }
+            }
+            /* Published under the read lock, so no write can slip in between building and publishing. */
+            live = base == null
+                    ? Collections.unmodifiableList(built)
+                    : new LiveRoster(
+                            base,
+                            baseDeleted.keySet().stream()
+                                    .mapToInt(Integer::intValue)
+                                    .sorted()
+                                    .toArray(),
+                            built);
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<MockEmployee> findById(UUID id) {
+        final var entry = byId.get(id);
+        if (entry != null) {
+            return Optional.of(entry.employee);
+        }
+        final var baseEntry = baseEntry(id);
+        return baseEntry == null ? Optional.empty() : Optional.of(baseEntry.employee);
+    }
+
+    public long add(MockEmployee employee) {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.added(List.of(employee));
+            }
+            live = null;
+            append(employee, version + 1);
+            written(version + 1);
+            return version;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends all employees under a single version, so readers see either none or all of them.
+     */
+    public long addAll(List<MockEmployee> employees) {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.added(employees);
+            }
+            live = null;
+            final long addVersion = version + 1;
+            for (MockEmployee employee : employees) {
+                append(employee, addVersion);
+            }
+            written(addVersion);
+            return version;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<MockEmployee> removeById(UUID id) {
+        lock.writeLock().lock();
+        try {
+            final var entry = byId.get(id);
+            return remove(entry == null ? baseEntry(id) : entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes the first live employee, in insertion order, whose name equals {@code name} ignoring case.
+     */
+    public Optional<MockEmployee> removeByName(String name) {
+        lock.writeLock().lock();
+        try {
+            return remove(firstNamed(name, Set.of()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * For each name in turn, deletes the first live employee with that name as {@link #removeByName} does, all under
+     * a single version. An employee deleted for an earlier name is not matched again.
+     *
+     * @return the deleted employee for each name, or empty where nothing matched
+     */
+    public List<Optional<MockEmployee>> removeEachByName(List<String> names) {
+        lock.writeLock().lock();
+        try {
+            /* Matches are picked before anything changes, so the journal sees the whole batch before it is applied. */
+            final var matched = new LinkedHashMap<Long, Entry>();
+            final var removed = new ArrayList<Optional<MockEmployee>>(names.size());
+            for (String name : names) {
+                final var entry = firstNamed(name, matched.keySet());
+                removed.add(entry == null ? Optional.empty() : Optional.of(entry.employee));
+                if (entry != null) {
+                    matched.put(entry.sequence, entry);
+                }
+            }
+            if (matched.isEmpty()) {
+                return removed;
+            }
+            if (journal != null) {
+                journal.removed(matched.values().stream()
+                        .map(entry -> entry.employee)
+                        .toList());
+            }
+            final long deleteVersion = version + 1;
+            matched.values().forEach(entry -> markDeleted(entry, deleteVersion));
+            written(deleteVersion);
+            compactIfWorthwhile();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} employees that were live at {@code atVersion}, starting at log position {@code fromSequence}.
+     * Cost is a binary search plus the entries walked, independent of the roster size.
+     */
+    public Page page(long atVersion, long fromSequence, int limit) {
+        lock.readLock().lock();
+        try {
+            if (atVersion < compactedThrough || atVersion > version) {
+                throw new StaleVersionException(atVersion);
+            }
+            final var employees = new ArrayList<MockEmployee>(Math.min(limit, 1024));
+            // base employees were all created at version 0, so only their deletes decide what atVersion saw.
+            for (long sequence = fromSequence; sequence < baseSize; sequence++) {
+                final Long deletedVersion = baseDeleted.get((int) sequence);
+                if (deletedVersion == null || deletedVersion > atVersion) {
+                    if (employees.size() == limit) {
+                        return new Page(employees, atVersion, sequence);
+                    }
+                    employees.add(base.get((int) sequence));
+                }
+            }
+            int index = firstIndexAtOrAfter(fromSequence);
+            for (; index < log.size(); index++) {
+                final var entry = log.get(index);
+                if (entry.createdVersion > atVersion) {
+                    // entries are appended in version order, so nothing further was live at atVersion.
+                    return new Page(employees, atVersion, -1);
+                }
+                if (entry.deletedVersion > atVersion) {
+                    if (employees.size() == limit) {
+                        return new Page(employees, atVersion, entry.sequence);
+                    }
+                    employees.add(entry.employee);
+                }
+            }
+            return new Page(employees, atVersion, -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Folds case the way String.equalsIgnoreCase compares it, code point by code point, so two names share an index
+     * key exactly when equalsIgnoreCase says they are equal.
+     */
+    static String fold(String name) {
+        final var folded = new StringBuilder(name.length());
+        name.codePoints().forEach(codePoint -> folded.appendCodePoint(
+                Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    private void append(MockEmployee employee, long createdVersion) {
+        final var entry = new Entry(nextSequence++, employee, createdVersion);
+        log.add(entry);
+        if (employee.getId() != null) {
+            byId.put(employee.getId(), entry);
+        }
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(fold(employee.getName()), ignored -> new ArrayDeque<>())
+                    .addLast(entry);
+        }
+    }
+
+    /*
+     * The first live employee named name that is not among the excluded sequences. Base employees come first, as
+     * they precede the whole log.
+     */
+    private Entry firstNamed(String name, Set<Long> excluded) {
+        if (name == null) {
+            return null;
+        }
+        final var key = fold(name);
+        final var baseEntry = firstBaseNamed(key, excluded);
+        if (baseEntry != null) {
+            return baseEntry;
+        }
+        final var entries = byName.get(key);
+        if (entries == null) {
+            return null;
+        }
+        for (Entry entry : entries) {
+            if (!excluded.contains(entry.sequence)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /*
+     * Base employees are not kept, so a match is wrapped in a fresh entry whose sequence is its index.
+     */
+    private Entry baseEntry(UUID id) {
+        if (base == null) {
+            return null;
+        }
+        final int index = base.indexOfId(id);
+        if (index < 0 || baseDeleted.containsKey(index)) {
+            return null;
+        }
+        return new Entry(index, base.get(index), 0);
+    }
+
+    private Entry firstBaseNamed(String key, Set<Long> excluded) {
+        if (base == null) {
+            return null;
+        }
+        if (baseNames == null) {
+            baseNames = indexBaseNames();
+        }
+        final long hash = key.hashCode();
+        int low = 0;
+        int high = baseNames.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (baseNames[mid] < hash << 32) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        // equal hashes are sorted by index, so the first match that checks out is the oldest.
+        for (int at = low; at < baseNames.length && baseNames[at] >> 32 == hash; at++) {
+            final int index = (int) baseNames[at];
+            if (!baseDeleted.containsKey(index)
+                    && !excluded.contains((long) index)
+                    && fold(base.name(index)).equals(key)) {
+                return new Entry(index, base.get(index), 0);
+            }
+        }
+        return null;
+    }
+
+    private long[] indexBaseNames() {
+        final var names = new long[baseSize];
+        IntStream.range(0, baseSize).parallel().forEach(index -> {
+            final long hash = fold(base.name(index)).hashCode();
+            names[index] = hash << 32 | index;
+        });
+        Arrays.parallelSort(names);
+        return names;
+    }
+
+    private Optional<MockEmployee> remove(Entry entry) {
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (journal != null) {
+            journal.removed(List.of(entry.employee));
+        }
+        markDeleted(entry, version + 1);
+        written(version + 1);
+        compactIfWorthwhile();
+        return Optional.of(entry.employee);
+    }
+
+    private void markDeleted(Entry entry, long deleteVersion) {
+        live = null;
+        entry.deletedVersion = deleteVersion;
+        if (entry.sequence < baseSize) {
+            baseDeleted.put((int) entry.sequence, deleteVersion);
+            return;
+        }
+        tombstones++;
+        if (entry.employee.getId() != null) {
+            byId.remove(entry.employee.getId(), entry);
+        }
+        if (entry.employee.getName() != null) {
+            final var key = fold(entry.employee.getName());
+            final var entries = byName.get(key);
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                byName.remove(key);
+            }
+        }
+    }
+
+    /*
+     * Writers clear the live roster before changing anything and publish the new version last, so a reader that
+     * sees the new version cannot then be handed the roster from before it.
+     */
+    private void written(long newVersion) {
+        version = newVersion;
+        checkpoint();
+        if (journal != null && journal.snapshotDue()) {
+            journal.rotate(employees());
+        }
+    }
+
+    private int firstIndexAtOrAfter(long sequence) {
+        int low = 0;
+        int high = log.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (log.get(mid).sequence < sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * At most one checkpoint per interval. Only the newest checkpoint older than the retention window can serve as a
+     * compaction horizon, so older ones are dropped as they appear; with a long window the rest are thinned to every
+     * other one past MAX_CHECKPOINTS. Dropping a checkpoint can only make compaction more conservative.
+     */
+    private void checkpoint() {
+        final Instant now = clock.instant();
+        final var last = checkpoints.peekLast();
+        if (last != null && now.isBefore(last.at().plus(CHECKPOINT_INTERVAL))) {
+            return;
+        }
+        checkpoints.addLast(new Checkpoint(now, version));
+        final Instant cutoff = now.minus(retention);
+        while (checkpoints.size() > 1) {
+            final var oldest = checkpoints.pollFirst();
+            if (checkpoints.peekFirst().at().isAfter(cutoff)) {
+                checkpoints.addFirst(oldest);
+                break;
+            }
+        }
+        if (checkpoints.size() > MAX_CHECKPOINTS) {
+            final var newest = checkpoints.peekLast();
+            final var kept = new ArrayList<Checkpoint>(checkpoints.size() / 2 + 1);
+            int position = 0;
+            for (Checkpoint checkpoint : checkpoints) {
+                if (position++ % 2 == 0) {
+                    kept.add(checkpoint);
+                }
+            }
+            if (kept.get(kept.size() - 1) != newest) {
+                kept.add(newest);
+            }
+            checkpoints.clear();
+            checkpoints.addAll(kept);
+        }
+    }
+
+    /* How many checkpoints are kept, which stays bounded however long the store runs. */
+    int checkpoints() {
+        return checkpoints.size();
+    }
+
+    /*
+     * A tombstone can only go once every version that still sees the entry is older than the retention window.
+     * The newest checkpoint older than the window gives that horizon.
+     */
+    private void compactIfWorthwhile() {
+        if (tombstones < MIN_TOMBSTONES_TO_COMPACT || tombstones < log.size() - tombstones) {
+            return;
+        }
+        final Instant cutoff = clock.instant().minus(retention);
+        long horizon = -1;
+        while (!checkpoints.isEmpty() && !checkpoints.peekFirst().at().isAfter(cutoff)) {
+            horizon = checkpoints.pollFirst().version();
+        }
+        if (horizon < 0) {
+            return;
+        }
+        checkpoints.addFirst(new Checkpoint(cutoff, horizon));
+        final var compacted = new ArrayList<Entry>(log.size() - tombstones);
+        int removed = 0;
+        for (Entry entry : log) {
+            if (entry.deletedVersion <= horizon) {
+                removed++;
+            } else {
+                compacted.add(entry);
+            }
+        }
+        log = compacted;
+        tombstones -= removed;
+        compactedThrough = Math.max(compactedThrough, horizon);
+    }
+
+    /**
+     * @param nextSequence where the following page starts, or {@code -1} when this is the last page
+     */
+    public record Page(List<MockEmployee> employees, long version, long nextSequence) {
+
+        public boolean hasNext() {
+            return nextSequence >= 0;
+        }
+    }
+
+    private record Checkpoint(Instant at, long version) {}
+
+    /*
+     * Live base employees, skipping the indexes deleted when the list was built, followed by the live log employees.
+     */
+    private static final class LiveRoster extends AbstractList<MockEmployee> {
+        private final SyntheticRoster base;
+        /* Sorted. */
+        private final int[] deleted;
+        private final List<MockEmployee> tail;
+
+        private LiveRoster(SyntheticRoster base, int[] deleted, List<MockEmployee> tail) {
+            this.base = base;
+            this.deleted = deleted;
+            this.tail = tail;
+        }
+
+        @Override
+        public int size() {
+            return base.size() - deleted.length + tail.size();
+        }
+
+        /*
+         * deleted[p] - p live employees precede the p-th deleted index, so the live employee at position sits past
+         * the first p deleted indexes for which that count is still at most position.
+         */
+        @Override
+        public MockEmployee get(int position) {
+            Objects.checkIndex(position, size());
+            final int baseLive = base.size() - deleted.length;
+            if (position >= baseLive) {
+                return tail.get(position - baseLive);
+            }
+            int low = 0;
+            int high = deleted.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (deleted[mid] - mid <= position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return base.get(position + low);
+        }
+    }
+
+    private static final class Entry {
+        private final long sequence;
+        private final MockEmployee employee;
+        private final long createdVersion;
+        private long deletedVersion = ALIVE;
+
+        private Entry(long sequence, MockEmployee employee, long createdVersion) {
+            this.sequence = sequence;
+            this.employee = employee;
+            this.createdVersion = createdVersion;
+        }
+    }
+}
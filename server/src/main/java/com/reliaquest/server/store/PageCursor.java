@@ -0,0 +1,33 @@
+package com.reliaquest.server.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token: the store version a listing was started at and the log position to resume from.
+ */
+public record PageCursor(long version, long sequence) {
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((version + ":" + sequence).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static PageCursor decode(String token) {
+        final String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+        final int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        final long version = Long.parseLong(decoded.substring(0, separator));
+        final long sequence = Long.parseLong(decoded.substring(separator + 1));
+        if (version < 0 || sequence < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new PageCursor(version, sequence);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.server.store;
+
+import lombok.Getter;
+
+/**
+ * The requested roster version is no longer, or not yet, readable.
+ */
+@Getter
+public class StaleVersionException extends RuntimeException {
+
+    private final long version;
+
+    public StaleVersionException(long version) {
+        super("Roster version " + version + " is no longer available");
+        this.version = version;
+    }
+}
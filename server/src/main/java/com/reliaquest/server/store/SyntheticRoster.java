@@ -0,0 +1,127 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * A roster of {@code size} Faker employees derived from a seed. Employee {@code i} depends only on the seed and
+ * {@code i}: each thread keeps its own {@link Faker} and reseeds it per index, so the roster is the same however it is
+ * read, in whatever order and on however many threads.
+ * <p>
+ * Nothing is held per employee; {@link #get} derives the employee again on every call. Ids carry their index, so
+ * {@link #indexOfId} finds an employee without generating anything.
+ */
+public final class SyntheticRoster extends AbstractList<MockEmployee> implements RandomAccess {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long ID_VARIANT = Long.MIN_VALUE;
+    private static final long ID_VARIANT_MASK = 0xc000000000000000L;
+
+    private final long seed;
+    private final int size;
+    /* Most significant id bits shared by the whole roster: the mixed seed, stamped as a version 4 UUID. */
+    private final long idHigh;
+    private final ThreadLocal<Generator> generators;
+
+    public SyntheticRoster(long seed, int size, Locale locale) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Roster size must not be negative: " + size);
+        }
+        this.seed = seed;
+        this.size = size;
+        this.idHigh = (mix(seed) & 0xffffffffffff0fffL) | 0x4000L;
+        this.generators = ThreadLocal.withInitial(() -> new Generator(locale));
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public MockEmployee get(int index) {
+        Objects.checkIndex(index, size);
+        return generators.get().employee(index);
+    }
+
+    /**
+     * The name {@link #get} would give employee {@code index}, without deriving the rest of the employee.
+     */
+    public String name(int index) {
+        Objects.checkIndex(index, size);
+        return generators.get().name(index);
+    }
+
+    /**
+     * The index of the employee with this id, or {@code -1} when the id is not one of this roster's.
+     */
+    public int indexOfId(UUID id) {
+        final long low = id.getLeastSignificantBits();
+        if (id.getMostSignificantBits() != idHigh || (low & ID_VARIANT_MASK) != ID_VARIANT) {
+            return -1;
+        }
+        final long index = low & ~ID_VARIANT_MASK;
+        return index < size ? (int) index : -1;
+    }
+
+    /**
+     * Every employee, generated in parallel on the common fork-join pool.
+     */
+    public List<MockEmployee> materialize() {
+        final var employees = new MockEmployee[size];
+        IntStream.range(0, size).parallel().forEach(index -> employees[index] = get(index));
+        return Arrays.asList(employees);
+    }
+
+    private UUID id(int index) {
+        return new UUID(idHigh, ID_VARIANT | index);
+    }
+
+    /* SplitMix64's finalizer: neighbouring seeds and indexes give unrelated Faker streams. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private final class Generator {
+        private final Random random = new Random();
+        private final Faker faker;
+
+        private Generator(Locale locale) {
+            this.faker = new Faker(locale, random);
+        }
+
+        /* The name is always drawn first, so name(index) matches employee(index) without the other draws. */
+        private String name(int index) {
+            random.setSeed(mix(seed + GOLDEN_GAMMA * (index + 1L)));
+            return faker.name().fullName();
+        }
+
+        private MockEmployee employee(int index) {
+            final String name = name(index);
+            return new MockEmployee(
+                    id(index),
+                    name,
+                    faker.number().numberBetween(30000, 500000),
+                    faker.number().numberBetween(16, 70),
+                    faker.job().title(),
+                    ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()));
+        }
+    }
+}
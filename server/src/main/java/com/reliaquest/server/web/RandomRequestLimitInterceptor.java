@@ -1,5 +1,7 @@
 package com.reliaquest.server.web;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
@@ -17,6 +19,13 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
             Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final Counter rejected;
+
+    public RandomRequestLimitInterceptor(MeterRegistry meterRegistry) {
+        this.rejected = Counter.builder("mock.requests.rejected")
+                .description("Requests answered 429 while the random request limit is in effect")
+                .register(meterRegistry);
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -25,6 +34,7 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
                     .minus(REQUEST_BACKOFF_DURATION)
                     .isBefore(requestLimit.get().getLastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                rejected.increment();
                 return false;
             }
             if (Instant.now()
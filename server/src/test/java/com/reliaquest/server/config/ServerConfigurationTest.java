@@ -0,0 +1,40 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.store.EmployeeJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ServerConfigurationTest {
+
+    @TempDir
+    Path directory;
+
+    private final ServerConfiguration configuration = new ServerConfiguration(new SimpleMeterRegistry());
+
+    @Test
+    void employeeJournal_RefusesLazyRosterBeforeWritingAnything() {
+        final var properties = persistenceIn(directory.resolve("data"));
+
+        assertThrows(IllegalStateException.class, () -> configuration.employeeJournal(properties, true));
+        assertFalse(Files.exists(directory.resolve("data")));
+    }
+
+    @Test
+    void employeeJournal_OpensForEagerRoster() throws IOException {
+        try (var journal = configuration.employeeJournal(persistenceIn(directory), false)) {
+            assertTrue(journal.recovered().isEmpty());
+        }
+    }
+
+    private static EmployeePersistenceProperties persistenceIn(Path directory) {
+        return new EmployeePersistenceProperties(
+                true, directory, EmployeeJournal.FsyncPolicy.NEVER, Duration.ofSeconds(1), 100);
+    }
+}
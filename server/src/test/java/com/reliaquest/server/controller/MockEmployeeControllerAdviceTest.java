@@ -0,0 +1,17 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.store.StaleVersionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class MockEmployeeControllerAdviceTest {
+
+    @Test
+    void handleStaleVersion_RespondsGone() {
+        final var response = new MockEmployeeControllerAdvice().handleStaleVersion(new StaleVersionException(7));
+
+        assertEquals(HttpStatus.GONE, response.getStatusCode());
+    }
+}
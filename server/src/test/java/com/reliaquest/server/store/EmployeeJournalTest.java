@@ -0,0 +1,164 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeJournal.FsyncPolicy;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeJournalTest {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_EmptyDirectoryRecoversNothing() throws IOException {
+        try (var journal = open(100)) {
+            assertEquals(Optional.empty(), journal.recovered());
+        }
+        assertEquals(List.of("journal-1.bin"), files());
+    }
+
+    @Test
+    void open_RestoresSeedAndEveryJournaledWrite() throws IOException {
+        final List<MockEmployee> expected;
+        try (var journal = open(100)) {
+            final var store = seeded(journal, 5);
+            final var roster = store.employees();
+            store.add(employee("Added One"));
+            store.addAll(List.of(employee("Added Two"), employee("Added Three")));
+            store.removeById(roster.get(1).getId());
+            store.removeEachByName(List.of(roster.get(3).getName(), "added two"));
+            expected = store.employees();
+        }
+
+        try (var journal = open(100)) {
+            assertEquals(Optional.of(expected), journal.recovered());
+        }
+    }
+
+    @Test
+    void open_DropsRecordTornByCrashAndKeepsAppending() throws IOException {
+        final List<MockEmployee> beforeLastWrite;
+        try (var journal = open(100)) {
+            final var store = seeded(journal, 3);
+            store.add(employee("Kept"));
+            beforeLastWrite = store.employees();
+            store.add(employee("Torn"));
+        }
+        final var torn = directory.resolve("journal-1.bin");
+        try (FileChannel channel = FileChannel.open(torn, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        final List<MockEmployee> afterRestart;
+        try (var journal = open(100)) {
+            assertEquals(Optional.of(beforeLastWrite), journal.recovered());
+            final var store = new EmployeeStore(journal.recovered().get(), RETENTION, journal);
+            store.add(employee("After Restart"));
+            afterRestart = store.employees();
+        }
+
+        try (var journal = open(100)) {
+            assertEquals(Optional.of(afterRestart), journal.recovered());
+        }
+    }
+
+    @Test
+    void open_StopsReplayAtRecordFailingChecksum() throws IOException {
+        final var journalFile = directory.resolve("journal-1.bin");
+        final List<MockEmployee> beforeCorruptWrite;
+        final long corruptRecordStart;
+        try (var journal = open(100)) {
+            final var store = seeded(journal, 3);
+            store.add(employee("Intact"));
+            beforeCorruptWrite = store.employees();
+            corruptRecordStart = Files.size(journalFile);
+            store.add(employee("Corrupted"));
+            store.add(employee("After Corrupted"));
+        }
+        final byte[] bytes = Files.readAllBytes(journalFile);
+        bytes[(int) corruptRecordStart + 16] ^= 0x5a;
+        Files.write(journalFile, bytes);
+
+        try (var journal = open(100)) {
+            assertEquals(Optional.of(beforeCorruptWrite), journal.recovered());
+        }
+    }
+
+    @Test
+    void rotate_SnapshotsAndDeletesSupersededGenerations() throws IOException {
+        final List<MockEmployee> expected;
+        try (var journal = open(2)) {
+            final var store = seeded(journal, 4);
+            for (int i = 0; i < 5; i++) {
+                store.add(employee("Added " + i));
+            }
+            store.removeById(store.employees().get(0).getId());
+            expected = store.employees();
+        }
+        /* Six records at two per generation rotated three times: snapshot 4 supersedes the rest, journal 4 is empty. */
+        assertEquals(List.of("journal-4.bin", "snapshot-4.bin"), files());
+
+        try (var journal = open(2)) {
+            assertEquals(Optional.of(expected), journal.recovered());
+        }
+    }
+
+    @Test
+    void open_FailsWhenNoSnapshotIsReadable() throws IOException {
+        try (var journal = open(100)) {
+            seeded(journal, 3).add(employee("Added"));
+        }
+        Files.write(directory.resolve("snapshot-1.bin"), new byte[32]);
+
+        assertThrows(IOException.class, () -> open(100));
+    }
+
+    @Test
+    void open_FailsWhenJournalGenerationIsMissing() throws IOException {
+        try (var journal = open(100)) {
+            seeded(journal, 3).add(employee("Added"));
+        }
+        Files.copy(directory.resolve("journal-1.bin"), directory.resolve("journal-3.bin"));
+
+        assertThrows(IOException.class, () -> open(100));
+    }
+
+    private EmployeeJournal open(int snapshotEvery) throws IOException {
+        return EmployeeJournal.open(directory, FsyncPolicy.ALWAYS, Duration.ofSeconds(1), snapshotEvery);
+    }
+
+    private static EmployeeStore seeded(EmployeeJournal journal, int size) throws IOException {
+        final var roster = IntStream.range(0, size)
+                .mapToObj(i -> employee("Employee " + i))
+                .toList();
+        journal.seed(roster);
+        return new EmployeeStore(roster, RETENTION, journal);
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(
+                UUID.randomUUID(), name, 50000, 30, "Developer", name.replace(' ', '.') + "@company.com");
+    }
+}
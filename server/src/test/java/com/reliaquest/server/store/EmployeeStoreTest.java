@@ -0,0 +1,354 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @Test
+    void page_WalksRosterAsOfItsVersion() {
+        final var store = storeOf(25);
+        final var roster = store.employees();
+
+        assertEquals(roster, readAll(store, store.version(), 7));
+    }
+
+    @Test
+    void page_StableWhileWritesInterleave() {
+        final var store = storeOf(40);
+        final long version = store.version();
+        final var roster = store.employees();
+
+        final var read = new ArrayList<MockEmployee>();
+        long sequence = 0;
+        int written = 0;
+        do {
+            final var page = store.page(version, sequence, 6);
+            read.addAll(page.employees());
+            sequence = page.nextSequence();
+            store.removeById(roster.get(written * 3).getId());
+            store.add(employee("Added " + written));
+            store.removeByName("Added " + written / 2);
+            written++;
+        } while (sequence >= 0);
+
+        assertEquals(roster, read);
+        assertNotEquals(version, store.version());
+    }
+
+    @Test
+    void page_StableWhileAnotherThreadWrites() {
+        final var store = storeOf(2000);
+        final long version = store.version();
+        final var roster = store.employees();
+        final var done = new AtomicBoolean();
+        final var writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; !done.get(); i++) {
+                store.add(employee("Writer " + i));
+                store.removeById(roster.get(i % roster.size()).getId());
+            }
+        });
+
+        try {
+            for (int pass = 0; pass < 20; pass++) {
+                assertEquals(roster, readAll(store, version, 37));
+            }
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+    }
+
+    @Test
+    void page_FailsForVersionCompactedAway() {
+        final var store = new EmployeeStore(List.of(), Duration.ofMinutes(1), null, clock);
+        final var names = IntStream.range(0, 1100).mapToObj(i -> "Employee " + i).toList();
+        store.addAll(names.stream().map(EmployeeStoreTest::employee).toList());
+        final long beforeDeletes = store.version();
+        assertEquals(1100, store.page(beforeDeletes, 0, 2000).employees().size());
+
+        clock.advance(Duration.ofSeconds(1));
+        store.removeEachByName(names);
+        final long afterDeletes = store.version();
+        /* Still readable: nothing is compacted before the deletes leave the retention window. */
+        assertEquals(1100, store.page(beforeDeletes, 0, 2000).employees().size());
+
+        clock.advance(Duration.ofMinutes(2));
+        final var late = employee("Late");
+        store.add(late);
+        store.removeById(late.getId());
+
+        final var stale = assertThrows(StaleVersionException.class, () -> store.page(beforeDeletes, 0, 10));
+        assertEquals(beforeDeletes, stale.getVersion());
+        assertEquals(List.of(), store.page(afterDeletes, 0, 10).employees());
+    }
+
+    @Test
+    void page_FailsForVersionNotYetWritten() {
+        final var store = storeOf(3);
+
+        assertThrows(StaleVersionException.class, () -> store.page(store.version() + 1, 0, 10));
+    }
+
+    @Test
+    void checkpoints_StayBoundedWithoutCompaction() {
+        final var store = new EmployeeStore(List.of(), Duration.ofHours(1), null, clock);
+        for (int i = 0; i < 5000; i++) {
+            clock.advance(Duration.ofSeconds(1));
+            store.add(employee("Employee " + i));
+            assertTrue(store.checkpoints() <= 1024, () -> "checkpoints: " + store.checkpoints());
+        }
+
+        final var shortRetention = new EmployeeStore(List.of(), Duration.ofSeconds(30), null, clock);
+        for (int i = 0; i < 500; i++) {
+            clock.advance(Duration.ofSeconds(1));
+            shortRetention.add(employee("Employee " + i));
+        }
+        assertTrue(shortRetention.checkpoints() <= 32, () -> "checkpoints: " + shortRetention.checkpoints());
+    }
+
+    @Test
+    void findById_FollowsAddsAndDeletes() {
+        final var store = storeOf(3);
+        final var first = store.employees().get(0);
+        final var added = employee("Added");
+        store.add(added);
+
+        assertEquals(Optional.of(added), store.findById(added.getId()));
+        assertEquals(Optional.of(first), store.removeById(first.getId()));
+        assertEquals(Optional.empty(), store.removeById(first.getId()));
+        assertEquals(Optional.empty(), store.findById(first.getId()));
+        assertEquals(Optional.empty(), store.findById(UUID.randomUUID()));
+    }
+
+    @Test
+    void removeByName_TakesFirstMatchIgnoringCase() {
+        final var store = new EmployeeStore(List.of(), Duration.ofHours(1), null, clock);
+        final var upper = employee("ALICE SMITH");
+        final var lower = employee("alice smith");
+        store.add(upper);
+        store.add(lower);
+
+        assertEquals(Optional.of(upper), store.removeByName("Alice Smith"));
+        assertEquals(Optional.of(lower), store.removeByName("Alice Smith"));
+        assertEquals(Optional.empty(), store.removeByName("Alice Smith"));
+    }
+
+    @Test
+    void removeByName_MatchesAsEqualsIgnoreCaseDoes() {
+        final var store = new EmployeeStore(List.of(), Duration.ofHours(1), null, clock);
+        final var odysseas = employee("\u039F\u0394\u03A5\u03A3\u03A3\u0395\u0391\u03A3");
+        final var kelvin = employee("\u212Aarl");
+        store.add(odysseas);
+        store.add(kelvin);
+
+        assertEquals(Optional.of(odysseas), store.removeByName("\u03BF\u03B4\u03C5\u03C3\u03C3\u03B5\u03B1\u03C3"));
+        assertEquals(Optional.of(kelvin), store.removeByName("karl"));
+        final var names = List.of(
+                "\u03A3", "\u03C3", "\u03C2", "\u212A", "k", "K", "\u0130", "i", "\u0131", "I", "\u00DF", "SS");
+        for (String first : names) {
+            for (String second : names) {
+                assertEquals(
+                        first.equalsIgnoreCase(second),
+                        EmployeeStore.fold(first).equals(EmployeeStore.fold(second)),
+                        first + " / " + second);
+            }
+        }
+    }
+
+    @Test
+    void removeEachByName_DeletesDistinctEmployeesUnderOneVersion() {
+        final var store = new EmployeeStore(List.of(), Duration.ofHours(1), null, clock);
+        final var first = employee("Sam Lee");
+        final var second = employee("SAM LEE");
+        final var other = employee("Kim Park");
+        store.addAll(List.of(first, second, other));
+        final long before = store.version();
+
+        final var removed = store.removeEachByName(List.of("sam lee", "Nobody", "sam lee", "sam lee"));
+
+        assertEquals(List.of(Optional.of(first), Optional.empty(), Optional.of(second), Optional.empty()), removed);
+        assertEquals(before + 1, store.version());
+        assertEquals(List.of(other), store.employees());
+        assertEquals(List.of(first, second, other), store.page(before, 0, 10).employees());
+    }
+
+    @Test
+    void indexes_AgreeWithScanningAfterRandomWrites() {
+        final var random = new Random(23);
+        final var names = List.of("Ann Bell", "ANN BELL", "ann bell", "Bo Chen", "Cy Diaz", "\u212Aai Eto", "Kai Eto");
+        final var store = new EmployeeStore(List.of(), Duration.ofHours(1), null, clock);
+        final var expected = new ArrayList<MockEmployee>();
+        final var everAdded = new ArrayList<MockEmployee>();
+
+        for (int step = 0; step < 5000; step++) {
+            final int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                final var employee = employee(names.get(random.nextInt(names.size())));
+                store.add(employee);
+                expected.add(employee);
+                everAdded.add(employee);
+            } else if (operation == 1) {
+                final var target = everAdded.get(random.nextInt(everAdded.size()));
+                final var removed = store.removeById(target.getId());
+                assertEquals(expected.remove(target) ? Optional.of(target) : Optional.empty(), removed);
+            } else if (operation == 2) {
+                final var name = names.get(random.nextInt(names.size()));
+                final var match = expected.stream()
+                        .filter(employee -> employee.getName().equalsIgnoreCase(name))
+                        .findFirst();
+                match.ifPresent(expected::remove);
+                assertEquals(match, store.removeByName(name));
+            } else {
+                final var target = everAdded.get(random.nextInt(everAdded.size()));
+                assertEquals(
+                        expected.contains(target) ? Optional.of(target) : Optional.empty(),
+                        store.findById(target.getId()));
+            }
+        }
+
+        assertEquals(expected, store.employees());
+        assertEquals(expected, readAll(store, store.version(), 50));
+        for (MockEmployee employee : everAdded) {
+            assertEquals(expected.contains(employee), store.findById(employee.getId()).isPresent());
+        }
+    }
+
+    @Test
+    void lazy_ReadsLikeEagerStoreAfterDeletes() {
+        final var roster = new SyntheticRoster(5, 300, Locale.ENGLISH);
+        final var eager = new EmployeeStore(roster.materialize(), Duration.ofHours(1), null, clock);
+        final var lazy = EmployeeStore.lazy(roster, Duration.ofHours(1), null);
+
+        /* First, last and neighbouring base employees, so live positions shift by different amounts. */
+        for (int index : new int[] {0, 299, 150, 151, 149, 1}) {
+            final var id = roster.get(index).getId();
+            assertEquals(eager.removeById(id), lazy.removeById(id));
+        }
+        final var added = employee("Added");
+        eager.add(added);
+        lazy.add(added);
+
+        final var expected = eager.employees();
+        final var live = lazy.employees();
+        assertEquals(295, live.size());
+        for (int position = live.size() - 1; position >= 0; position--) {
+            assertEquals(expected.get(position), live.get(position));
+        }
+        assertEquals(expected, live);
+        assertEquals(added, live.get(294));
+        assertEquals(readAll(eager, eager.version(), 17), readAll(lazy, lazy.version(), 17));
+    }
+
+    @Test
+    void lazy_MatchesEagerStoreUnderRandomWrites() {
+        final var roster = new SyntheticRoster(9, 400, Locale.ENGLISH);
+        final var eager = new EmployeeStore(roster.materialize(), Duration.ofHours(1), null, clock);
+        final var lazy = EmployeeStore.lazy(roster, Duration.ofHours(1), null);
+        final var random = new Random(25);
+        final var versions = new ArrayList<Long>();
+
+        for (int step = 0; step < 600; step++) {
+            final int index = random.nextInt(roster.size());
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    final var employee = employee(roster.name(index));
+                    assertEquals(eager.add(employee), lazy.add(employee));
+                }
+                case 1 -> assertEquals(
+                        eager.removeById(roster.get(index).getId()), lazy.removeById(roster.get(index).getId()));
+                case 2 -> {
+                    final String name = roster.name(index).toUpperCase(Locale.ROOT);
+                    assertEquals(eager.removeByName(name), lazy.removeByName(name));
+                }
+                case 3 -> {
+                    final var names = List.of(roster.name(index), roster.name(index), "Nobody");
+                    assertEquals(eager.removeEachByName(names), lazy.removeEachByName(names));
+                }
+                default -> assertEquals(
+                        eager.findById(roster.get(index).getId()), lazy.findById(roster.get(index).getId()));
+            }
+            assertEquals(eager.version(), lazy.version());
+            if (step % 50 == 0) {
+                versions.add(eager.version());
+            }
+        }
+
+        assertEquals(eager.employees(), lazy.employees());
+        for (long version : versions) {
+            assertEquals(readAll(eager, version, 23), readAll(lazy, version, 23));
+        }
+    }
+
+    private static List<MockEmployee> readAll(EmployeeStore store, long version, int limit) {
+        final var read = new ArrayList<MockEmployee>();
+        long sequence = 0;
+        do {
+            final var page = store.page(version, sequence, limit);
+            assertTrue(page.employees().size() <= limit);
+            read.addAll(page.employees());
+            sequence = page.nextSequence();
+        } while (sequence >= 0);
+        return read;
+    }
+
+    private EmployeeStore storeOf(int size) {
+        return new EmployeeStore(
+                IntStream.range(0, size)
+                        .mapToObj(i -> employee("Employee " + i))
+                        .toList(),
+                Duration.ofHours(1),
+                null,
+                clock);
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(
+                UUID.randomUUID(), name, 50000, 30, "Developer", name.replace(' ', '.') + "@company.com");
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
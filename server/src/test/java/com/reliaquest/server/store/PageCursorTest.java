@@ -0,0 +1,22 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    void decode_ReadsWhatEncodeWrote() {
+        final var cursor = new PageCursor(42, 1_000_000_007L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_RejectsForeignTokens() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("NDI"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(new PageCursor(-1, 0).encode()));
+    }
+}
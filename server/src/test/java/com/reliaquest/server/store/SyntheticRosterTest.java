@@ -0,0 +1,84 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SyntheticRosterTest {
+
+    @Test
+    void materialize_MatchesSequentialReadsWhateverTheParallelism() throws Exception {
+        final var roster = new SyntheticRoster(42, 2000, Locale.ENGLISH);
+        final var sequential = new ArrayList<MockEmployee>();
+        for (int index = 0; index < roster.size(); index++) {
+            sequential.add(roster.get(index));
+        }
+
+        assertEquals(sequential, roster.materialize());
+        assertEquals(sequential, new SyntheticRoster(42, 2000, Locale.ENGLISH).materialize());
+        final var pool = new ForkJoinPool(7);
+        try {
+            final var employees = pool.submit(() -> new SyntheticRoster(42, 2000, Locale.ENGLISH).materialize());
+            assertEquals(sequential, employees.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void get_DependsOnlyOnSeedAndIndex() {
+        final var roster = new SyntheticRoster(7, 500, Locale.ENGLISH);
+        final var reversed = new SyntheticRoster(7, 500, Locale.ENGLISH);
+        final var larger = new SyntheticRoster(7, 1000, Locale.ENGLISH);
+        final var otherSeed = new SyntheticRoster(8, 500, Locale.ENGLISH);
+
+        final var backwards = IntStream.iterate(499, index -> index >= 0, index -> index - 1)
+                .mapToObj(reversed::get)
+                .toList();
+        for (int index = 0; index < 500; index++) {
+            assertEquals(roster.get(index), backwards.get(499 - index));
+            assertEquals(roster.get(index), larger.get(index));
+            assertNotEquals(roster.get(index).getId(), otherSeed.get(index).getId());
+        }
+        assertNotEquals(roster.materialize(), otherSeed.materialize());
+    }
+
+    @Test
+    void name_MatchesTheEmployeesName() {
+        final var roster = new SyntheticRoster(3, 200, Locale.ENGLISH);
+
+        for (int index = 199; index >= 0; index--) {
+            assertEquals(roster.get(index).getName(), roster.name(index));
+        }
+    }
+
+    @Test
+    void indexOfId_FindsOnlyThisRostersIds() {
+        final var roster = new SyntheticRoster(11, 300, Locale.ENGLISH);
+        final var larger = new SyntheticRoster(11, 301, Locale.ENGLISH);
+
+        for (int index = 0; index < roster.size(); index++) {
+            assertEquals(index, roster.indexOfId(roster.get(index).getId()));
+            assertEquals(4, roster.get(index).getId().version());
+        }
+        assertEquals(-1, roster.indexOfId(larger.get(300).getId()));
+        assertEquals(-1, roster.indexOfId(new SyntheticRoster(12, 300, Locale.ENGLISH).get(0).getId()));
+        assertEquals(-1, roster.indexOfId(UUID.randomUUID()));
+    }
+
+    @Test
+    void get_RejectsIndexesOutsideTheRoster() {
+        final var roster = new SyntheticRoster(1, 10, Locale.ENGLISH);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> roster.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> roster.name(-1));
+        assertEquals(List.of(), new SyntheticRoster(1, 0, Locale.ENGLISH).materialize());
+    }
+}